@@ -0,0 +1,34 @@
+package com.glowcorner.backend.config;
+
+import com.glowcorner.backend.entity.mongoDB.Order;
+import com.glowcorner.backend.entity.mongoDB.OrderDetail;
+import com.glowcorner.backend.entity.mongoDB.User;
+import com.glowcorner.backend.utils.MongoIndexes;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+/**
+ * Creates the indexes of the order queries at startup (auto-index-creation is off):
+ * the order paging indexes and the join keys of the order info lookup.
+ */
+@Configuration
+public class OrderIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    public OrderIndexConfig(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureOrderIndexes() {
+        // A unique index fails on orderIDs duplicated before IDs were allocated atomically; the others still get created
+        for (Class<?> entity : List.of(Order.class, OrderDetail.class, User.class)) {
+            MongoIndexes.ensure(mongoTemplate, entity);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.glowcorner.backend.config;
+
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.SkinType;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.utils.MongoIndexes;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates the Product indexes at startup (auto-index-creation is off) and logs
+ * the winning plan of each catalog query shape, warning when one is a COLLSCAN.
+ */
+@Slf4j
+@Configuration
+public class ProductIndexConfig {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${catalog.query-plan-check.enabled:true}")
+    private boolean queryPlanCheckEnabled;
+
+    public ProductIndexConfig(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureProductIndexes() {
+        if (MongoIndexes.ensure(mongoTemplate, Product.class) && queryPlanCheckEnabled) {
+            checkQueryPlans();
+        }
+    }
+
+    // Explain each customer catalog query shape
+    private void checkQueryPlans() {
+        String active = ProductStatus.ACTIVE.name();
+        Map<String, Document> shapes = new LinkedHashMap<>();
+        shapes.put("active", new Document("status", active));
+        shapes.put("active by id", new Document("productID", "").append("status", active));
+        shapes.put("active by category", new Document("status", active).append("category", Category.values()[0].name()));
+        shapes.put("active by skin type", new Document("status", active).append("skinTypes", SkinType.values()[0].name()));
+        shapes.put("active by price range", new Document("status", active).append("price", new Document("$gte", 0L).append("$lte", Long.MAX_VALUE)));
+
+        String collection = mongoTemplate.getCollectionName(Product.class);
+        shapes.forEach((name, filter) -> {
+            try {
+                Document explain = mongoTemplate.getDb().runCommand(new Document("explain",
+                        new Document("find", collection).append("filter", filter))
+                        .append("verbosity", "queryPlanner"));
+                Document winningPlan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class);
+                String plan = winningPlan.toJson();
+                if (plan.contains("\"COLLSCAN\"")) {
+                    log.warn("Catalog query '{}' uses a COLLSCAN: {}", name, plan);
+                } else {
+                    log.info("Catalog query '{}' winning plan: {}", name, plan);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not explain catalog query '{}': {}", name, e.getMessage());
+            }
+        });
+    }
+}
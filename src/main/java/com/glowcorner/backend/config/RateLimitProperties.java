@@ -0,0 +1,62 @@
+package com.glowcorner.backend.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-route token-bucket limits, bound from rate-limit.* in application.properties. Routes are
+ * validated at startup so a zero capacity or refill rate fails the boot instead of every request.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Keep buckets in Mongo so every node draws from the same bucket
+    private boolean sharedState = false;
+
+    // Use the first X-Forwarded-For address as client IP, only behind a trusted proxy
+    private boolean trustForwardedFor = false;
+
+    @Valid
+    private List<Route> routes = new ArrayList<>();
+
+    public enum KeyType {
+        // Client IP address
+        IP,
+        // Authenticated user, the client IP for anonymous requests
+        USER
+    }
+
+    @Data
+    public static class Route {
+
+        private String name;
+
+        // HTTP method, any method when empty
+        private String method;
+
+        // Ant-style path pattern
+        private String pattern;
+
+        private KeyType key = KeyType.IP;
+
+        // Burst size
+        @Min(1)
+        private int capacity;
+
+        // Sustained rate
+        @Min(1)
+        private int refillPerMinute;
+    }
+}
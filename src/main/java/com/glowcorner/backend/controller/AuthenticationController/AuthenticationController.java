@@ -12,13 +12,19 @@ import com.glowcorner.backend.repository.AuthenticationRepository;
 import com.glowcorner.backend.entity.mongoDB.Authentication;
 import com.glowcorner.backend.repository.CartRepository;
 import com.glowcorner.backend.repository.UserRepository;
+import com.glowcorner.backend.security.LoginBusyException;
+import com.glowcorner.backend.security.PasswordVerifier;
+import com.glowcorner.backend.security.TokenRevocationStore;
 import com.glowcorner.backend.service.implement.CounterServiceImpl;
 import com.glowcorner.backend.service.interfaces.AuthenticationService;
 import com.glowcorner.backend.utils.JwtUtilHelper;
+import com.glowcorner.backend.utils.TokenDigest;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -47,6 +53,8 @@ public class AuthenticationController {
     private final BCryptPasswordEncoder bCryptPasswordEncoder;
     private final CartRepository cartRepository;
     private final CounterServiceImpl counterServiceImpl;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final PasswordVerifier passwordVerifier;
 
     @Value("${spring.security.oauth2.client.registration.google.client-id}")
     private String clientId;
@@ -85,9 +93,15 @@ public class AuthenticationController {
             return ResponseUtil.error(HttpStatus.UNAUTHORIZED.value(), "User not found");
         }
 
-        // 2️⃣ Kiểm tra password có đúng không
-        if (!bCryptPasswordEncoder.matches(loginDTO.getPassword(), auth.getPasswordHash())) {
-            return ResponseUtil.error(HttpStatus.UNAUTHORIZED.value(), "Invalid password");
+        // 2️⃣ Kiểm tra password có đúng không, on the bounded login pool
+        try {
+            if (!passwordVerifier.matches(loginDTO.getPassword(), auth.getPasswordHash())) {
+                return ResponseUtil.error(HttpStatus.UNAUTHORIZED.value(), "Invalid password");
+            }
+        } catch (LoginBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(new ResponseData(503, false, e.getMessage(), null, null, null));
         }
 
         // 3️⃣ Get user information
@@ -262,6 +276,26 @@ public class AuthenticationController {
         }
     }
 
+    // Revoke the bearer token of the request on every node
+    @Operation(summary = "Logout", description = "Revoke the bearer token of the request")
+    @PostMapping("/logout")
+    public ResponseEntity<ResponseData> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return ResponseEntity.badRequest().body(new ResponseData(400, false, "Missing bearer token", null, null, null));
+        }
+        String token = authorization.substring(7);
+        Claims claims = jwtUtilHelper.parseClaims(token);
+        if (claims == null) {
+            return ResponseEntity.status(401).body(new ResponseData(401, false, "Invalid token", null, null, null));
+        }
+
+        long expiresAt = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : System.currentTimeMillis() + JwtUtilHelper.TOKEN_VALIDITY_MILLIS;
+        tokenRevocationStore.revokeToken(TokenDigest.sha256(token), expiresAt);
+        return ResponseEntity.ok(new ResponseData(200, true, "Logged out", null, null, null));
+    }
+
     @PostMapping("/forgot-password")
     public ResponseEntity<ResponseData> forgotPassword(@RequestBody ForgotPasswordRequest request) {
         try {
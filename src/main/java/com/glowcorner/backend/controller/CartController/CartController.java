@@ -3,6 +3,7 @@ package com.glowcorner.backend.controller.CartController;
 import com.glowcorner.backend.entity.mongoDB.CartItem;
 import com.glowcorner.backend.model.DTO.Cart.CartDTO;
 import com.glowcorner.backend.model.DTO.Cart.CartItemDTO;
+import com.glowcorner.backend.model.DTO.request.Cart.AddCartItemRequest;
 import com.glowcorner.backend.model.DTO.response.ResponseData;
 import com.glowcorner.backend.service.interfaces.CartService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +12,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Cart Management System", description = "Operations pertaining to cart in the Cart Management System")
 @RestController
 @RequestMapping("/api/cart")
@@ -44,6 +47,36 @@ public class CartController {
         return ResponseEntity.ok(new ResponseData(200, true, "Item added to the cart", null, null, null));
     }
 
+    // Add several items to a cart at once
+    @Operation(summary = "Add items to the cart", description = "Add a list of product ID and quantity pairs to the cart in one operation")
+    @PostMapping("/{userID}/add")
+    public ResponseEntity<ResponseData> addItemsToCart(@PathVariable String userID, @RequestBody List<AddCartItemRequest> items) {
+        if (items == null || items.isEmpty()) {
+            return ResponseEntity.badRequest()
+                    .body(new ResponseData(400, false, "No items to add", null, null, null));
+        }
+        try {
+            cartService.addItemsToCart(userID, items);
+            return ResponseEntity.ok(new ResponseData(200, true, "Items added to the cart", null, null, null));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ResponseData(400, false, e.getMessage(), null, null, null));
+        }
+    }
+
+    // Add all products of a skincare routine to a cart
+    @Operation(summary = "Add a routine to the cart", description = "Add one of each product of a skincare routine to the cart")
+    @PostMapping("/{userID}/add-routine/{routineID}")
+    public ResponseEntity<ResponseData> addRoutineToCart(@PathVariable String userID, @PathVariable String routineID) {
+        try {
+            cartService.addRoutineToCart(userID, routineID);
+            return ResponseEntity.ok(new ResponseData(200, true, "Routine added to the cart", null, null, null));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ResponseData(400, false, e.getMessage(), null, null, null));
+        }
+    }
+
     @Operation(summary = "Remove an item from the cart", description = "Decrease quantity by 1 or remove item if quantity becomes 0")
     @DeleteMapping("{userID}/remove/{productID}")
     public ResponseEntity<ResponseData> removeItemFromCart(@PathVariable String userID,
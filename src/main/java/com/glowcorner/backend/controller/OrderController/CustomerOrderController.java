@@ -6,6 +6,7 @@ import com.glowcorner.backend.model.DTO.Order.OrderInfoDTO;
 import com.glowcorner.backend.model.DTO.Order.PaymentInfo;
 import com.glowcorner.backend.model.DTO.response.ResponseData;
 import com.glowcorner.backend.service.interfaces.OrderService;
+import com.glowcorner.backend.utils.CursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
@@ -44,7 +45,12 @@ public class CustomerOrderController {
     // Get orders by customer ID
     @Operation(summary = "Get orders by customer ID", description = "Retrieve a list of orders using the customer ID")
     @GetMapping
-    public ResponseEntity<ResponseData> getOrdersByCustomerID(@PathVariable String userID) {
+    public ResponseEntity<ResponseData> getOrdersByCustomerID(@PathVariable String userID,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (CursorCodec.isPaged(cursor, size)) {
+            return ResponseEntity.ok(new ResponseData(200, true, "Orders found", orderService.getOrderPage(userID, null, null, cursor, size), null, null));
+        }
         List<OrderDTO> orders = orderService.getOrdersByCustomerID(userID);
         if (orders.isEmpty()) {
             return ResponseEntity.status(404)
@@ -56,7 +62,12 @@ public class CustomerOrderController {
     // Get orders by status
     @Operation(summary = "Get orders by status", description = "Retrieve a list of orders using the status")
     @GetMapping("/status/{status}")
-    public ResponseEntity<ResponseData> getOrdersByStatus(@PathVariable String userID, @PathVariable String status) {
+    public ResponseEntity<ResponseData> getOrdersByStatus(@PathVariable String userID, @PathVariable String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (CursorCodec.isPaged(cursor, size)) {
+            return ResponseEntity.ok(new ResponseData(200, true, "Orders found", orderService.getOrderPage(userID, status, null, cursor, size), null, null));
+        }
         List<OrderDTO> orders = orderService.getOrdersByStatusAndCustomerID(status, userID);
         if (orders.isEmpty()) {
             return ResponseEntity.status(404)
@@ -68,7 +79,12 @@ public class CustomerOrderController {
     // Get orders by order date
     @Operation(summary = "Get orders by order date", description = "Retrieve a list of orders using the order date")
     @GetMapping("/date/{orderDate}")
-    public ResponseEntity<ResponseData> getOrdersByOrderDate(@PathVariable String userID, @PathVariable LocalDate orderDate) {
+    public ResponseEntity<ResponseData> getOrdersByOrderDate(@PathVariable String userID, @PathVariable LocalDate orderDate,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (CursorCodec.isPaged(cursor, size)) {
+            return ResponseEntity.ok(new ResponseData(200, true, "Orders found", orderService.getOrderPage(userID, null, orderDate, cursor, size), null, null));
+        }
         List<OrderDTO> orders = orderService.getOrdersByOrderDateAndCustomerID(orderDate, userID);
         if (orders.isEmpty()) {
             return ResponseEntity.status(404)
@@ -122,6 +138,4 @@ public class CustomerOrderController {
             );
         }
     }
-
-
 }
@@ -5,6 +5,7 @@ import com.glowcorner.backend.model.DTO.Order.OrderDTO;
 import com.glowcorner.backend.model.DTO.Order.OrderDetailDTO;
 import com.glowcorner.backend.model.DTO.response.ResponseData;
 import com.glowcorner.backend.service.interfaces.OrderService;
+import com.glowcorner.backend.utils.CursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
@@ -74,9 +75,13 @@ public class OrderController {
     }
 
     // Get all orders
-    @Operation(summary = "Get all orders", description = "Retrieve a list of all orders")
+    @Operation(summary = "Get all orders", description = "Retrieve a list of all orders, newest first in pages when cursor or size is given")
     @GetMapping
-    public ResponseEntity<List<OrderDTO>> getAllOrders() {
+    public ResponseEntity<?> getAllOrders(@RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (CursorCodec.isPaged(cursor, size)) {
+            return ResponseEntity.ok(new ResponseData(200, true, "Orders found", orderService.getOrderPage(null, null, null, cursor, size), null, null));
+        }
         List<OrderDTO> orders = orderService.getAllOrders();
         return ResponseEntity.ok(orders);
     }
@@ -84,7 +89,12 @@ public class OrderController {
     // Get orders by customer id
     @Operation(summary = "Get orders by customer ID", description = "Retrieve a list of orders using the customer ID")
     @GetMapping("/customer/{customerID}")
-    public ResponseEntity<ResponseData> getOrdersByCustomerID(@PathVariable String customerID) {
+    public ResponseEntity<ResponseData> getOrdersByCustomerID(@PathVariable String customerID,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (CursorCodec.isPaged(cursor, size)) {
+            return ResponseEntity.ok(new ResponseData(200, true, "Orders found", orderService.getOrderPage(customerID, null, null, cursor, size), null, null));
+        }
         List<OrderDTO> orders = orderService.getOrdersByCustomerID(customerID);
         if (orders.isEmpty()) {
             return ResponseEntity.status(404)
@@ -108,7 +118,12 @@ public class OrderController {
     // Get orders by status
     @Operation(summary = "Get orders by status", description = "Retrieve a list of orders using the status")
     @GetMapping("/status/{status}")
-    public ResponseEntity<ResponseData> getOrdersByStatus(@PathVariable String status) {
+    public ResponseEntity<ResponseData> getOrdersByStatus(@PathVariable String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (CursorCodec.isPaged(cursor, size)) {
+            return ResponseEntity.ok(new ResponseData(200, true, "Orders found", orderService.getOrderPage(null, status, null, cursor, size), null, null));
+        }
         List<OrderDTO> orders = orderService.getOrdersByStatus(status);
         if (orders.isEmpty()) {
             return ResponseEntity.ok(new ResponseData(200, true, "Orders found", orders, null, null));        }
@@ -118,7 +133,12 @@ public class OrderController {
     // Get orders by order date
     @Operation(summary = "Get orders by order date", description = "Retrieve a list of orders using the order date")
     @GetMapping("/date/{orderDate}")
-    public ResponseEntity<ResponseData> getOrdersByOrderDate(@PathVariable LocalDate orderDate) {
+    public ResponseEntity<ResponseData> getOrdersByOrderDate(@PathVariable LocalDate orderDate,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (CursorCodec.isPaged(cursor, size)) {
+            return ResponseEntity.ok(new ResponseData(200, true, "Orders found", orderService.getOrderPage(null, null, orderDate, cursor, size), null, null));
+        }
         List<OrderDTO> orders = orderService.getOrdersByOrderDate(orderDate);
         if (orders.isEmpty()) {
             return ResponseEntity.status(404)
@@ -176,4 +196,4 @@ public class OrderController {
         List<OrderDetailDTO> orderDetails = orderService.getOrderDetailByOrderID(orderId);
         return ResponseEntity.ok(orderDetails);
     }
-}
\ No newline at end of file
+}
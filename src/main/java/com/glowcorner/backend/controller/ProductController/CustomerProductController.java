@@ -1,18 +1,27 @@
 package com.glowcorner.backend.controller.ProductController;
 
 import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.ProductSort;
+import com.glowcorner.backend.enums.ProductView;
 import com.glowcorner.backend.enums.SkinType;
+import com.glowcorner.backend.model.DTO.CursorPageDTO;
+import com.glowcorner.backend.model.DTO.FacetedProductsDTO;
 import com.glowcorner.backend.model.DTO.ProductDTO;
+import com.glowcorner.backend.model.DTO.request.Product.ProductFilterRequest;
 import com.glowcorner.backend.model.DTO.response.ResponseData;
 import com.glowcorner.backend.service.interfaces.ProductService;
+import com.glowcorner.backend.utils.CursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Tag(name = "Product Management System (Customer)", description = "Operations pertaining to active products in the Product Management System")
@@ -29,13 +38,15 @@ public class CustomerProductController {
     // Get all active products
     @Operation(summary = "Get all active products", description = "Retrieve a list of all active products")
     @GetMapping
-    public ResponseEntity<ResponseData> getAllActiveProducts() {
+    public ResponseEntity<ResponseData> getAllActiveProducts(
+            @RequestParam(value = "view", required = false) ProductView view,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
         try {
-            List<ProductDTO> products = productService.getAllActiveProducts();
-            if (products.isEmpty()) {
-                return ResponseEntity.ok(new ResponseData(404, false, "No active products found", null, null, null));
-            }
-            return ResponseEntity.ok(new ResponseData(200, true, "Active products found", products, null, null));
+            return listActiveProducts(null, view, sort, cursor, size, webRequest,
+                    productService::getAllActiveProducts, HttpStatus.OK, "No active products found");
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ResponseData(500, false, "Failed to retrieve active products: " + e.getMessage(), null, null, null));
@@ -45,47 +56,61 @@ public class CustomerProductController {
     // Get active product by ID
     @Operation(summary = "Get an active product by ID", description = "Retrieve a single active product using its ID")
     @GetMapping("/{id}")
-    public ResponseEntity<ResponseData> getActiveProductById(@PathVariable String id) {
+    public ResponseEntity<ResponseData> getActiveProductById(@PathVariable String id, WebRequest webRequest) {
+        String eTag = productService.getActiveCatalogETag();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         ProductDTO product = productService.getActiveProductById(id);
         if (product == null) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(new ResponseData(404, false, "Active product with ID: " + id + " not found", null, null, null));
         }
-        return ResponseEntity.ok(new ResponseData(200, true, "Active product found", product, null, null));
+        return withETag(eTag, new ResponseData(200, true, "Active product found", product, null, null));
     }
 
     // Get active products by skin type
     @Operation(summary = "Get active products by skin type", description = "Retrieve a list of active products using their skin type")
     @GetMapping("/skinType/{skinType}")
-    public ResponseEntity<ResponseData> getActiveProductsBySkinType(@PathVariable SkinType skinType) {
-        List<ProductDTO> products = productService.getActiveProductsBySkinType(skinType);
-        if (products.isEmpty()) {
-            return ResponseEntity.ok(new ResponseData(404, false, "No active products found for skin type", null, null, null));
-        }
-        return ResponseEntity.ok(new ResponseData(200, true, "Active products found", products, null, null));
+    public ResponseEntity<ResponseData> getActiveProductsBySkinType(
+            @PathVariable SkinType skinType,
+            @RequestParam(value = "view", required = false) ProductView view,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
+        ProductFilterRequest filter = new ProductFilterRequest(List.of(skinType), null, null, null, null);
+        return listActiveProducts(filter, view, sort, cursor, size, webRequest,
+                () -> productService.getActiveProductsBySkinType(skinType), HttpStatus.OK, "No active products found for skin type");
     }
 
     // Get active products by category
     @Operation(summary = "Get active products by category", description = "Retrieve a list of active products using their category")
     @GetMapping("/category/{category}")
-    public ResponseEntity<ResponseData> getActiveProductsByCategory(@PathVariable Category category) {
-        List<ProductDTO> products = productService.getActiveProductsByCategory(category);
-        if (products.isEmpty()) {
-            return ResponseEntity.ok(new ResponseData(404, false, "No active products found for category", null, null, null));
-        }
-        return ResponseEntity.ok(new ResponseData(200, true, "Active products found", products, null, null));
+    public ResponseEntity<ResponseData> getActiveProductsByCategory(
+            @PathVariable Category category,
+            @RequestParam(value = "view", required = false) ProductView view,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
+        ProductFilterRequest filter = new ProductFilterRequest(null, List.of(category), null, null, null);
+        return listActiveProducts(filter, view, sort, cursor, size, webRequest,
+                () -> productService.getActiveProductsByCategory(category), HttpStatus.OK, "No active products found for category");
     }
 
     // Get active products by product name
     @Operation(summary = "Get active products by name", description = "Retrieve a list of active products using their name")
     @GetMapping("/name/{productName}")
-    public ResponseEntity<ResponseData> getActiveProductsByProductName(@PathVariable String productName) {
-        List<ProductDTO> products = productService.getActiveProductsByProductName(productName);
-        if (products.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new ResponseData(404, false, "No active products found with name: " + productName, null, null, null));
-        }
-        return ResponseEntity.ok(new ResponseData(200, true, "Active products found", products, null, null));
+    public ResponseEntity<ResponseData> getActiveProductsByProductName(
+            @PathVariable String productName,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest) {
+        ProductFilterRequest filter = new ProductFilterRequest(null, null, null, null, productName);
+        return listActiveProducts(filter, null, sort, cursor, size, webRequest,
+                () -> productService.getActiveProductsByProductName(productName), HttpStatus.NOT_FOUND, "No active products found with name: " + productName);
     }
 
     // Get active products by filter
@@ -95,32 +120,87 @@ public class CustomerProductController {
             @RequestParam(value = "skinTypes", required = false) String skinTypes,
             @RequestParam(value = "categories", required = false) String categories,
             @RequestParam(value = "minPrice", required = false) Long minPrice,
-            @RequestParam(value = "maxPrice", required = false) Long maxPrice
+            @RequestParam(value = "maxPrice", required = false) Long maxPrice,
+            @RequestParam(value = "view", required = false) ProductView view,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size,
+            WebRequest webRequest
+    ) {
+        ProductFilterRequest filter = toFilter(skinTypes, categories, minPrice, maxPrice, null);
+        return listActiveProducts(filter, view, sort, cursor, size, webRequest,
+                () -> productService.getActiveProductsByFilter(filter.getSkinTypes(), filter.getCategories(), filter.getMinPrice(), filter.getMaxPrice()),
+                HttpStatus.OK, "No active products matching the filter criteria");
+    }
+
+    // Get a page of active products with facet counts for the filter sidebar
+    @Operation(summary = "Get active products with facet counts", description = "Retrieve a page of filtered active products plus counts per skin type, category and price bucket")
+    @GetMapping("/facets")
+    public ResponseEntity<ResponseData> getActiveProductFacets(
+            @RequestParam(value = "skinTypes", required = false) String skinTypes,
+            @RequestParam(value = "categories", required = false) String categories,
+            @RequestParam(value = "minPrice", required = false) Long minPrice,
+            @RequestParam(value = "maxPrice", required = false) Long maxPrice,
+            @RequestParam(value = "name", required = false) String productName,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
+        ProductFilterRequest filter = toFilter(skinTypes, categories, minPrice, maxPrice, productName);
+        FacetedProductsDTO result = productService.getActiveProductFacets(filter, sort, cursor, size);
+        return ResponseEntity.ok(new ResponseData(200, true, "Active products found", result, null, null));
+    }
+
+    // Shared by every list endpoint: summary or full view, paged or the full list.
+    // Only the full list comes from the catalog snapshot, so only it carries the catalog ETag.
+    private ResponseEntity<ResponseData> listActiveProducts(ProductFilterRequest filter, ProductView view, ProductSort sort,
+            String cursor, Integer size, WebRequest webRequest,
+            Supplier<List<ProductDTO>> fullList, HttpStatus emptyStatus, String emptyMessage) {
+        if (view == ProductView.SUMMARY) {
+            if (CursorCodec.isPaged(sort, cursor, size)) {
+                return ResponseEntity.ok(new ResponseData(200, true, "Active products found", productService.getActiveProductSummaryPage(filter, sort, cursor, size), null, null));
+            }
+            return ResponseEntity.ok(new ResponseData(200, true, "Active products found", productService.getActiveProductSummaries(filter), null, null));
+        }
+        if (CursorCodec.isPaged(sort, cursor, size)) {
+            CursorPageDTO<ProductDTO> page = productService.getActiveProductPage(filter, sort, cursor, size);
+            return ResponseEntity.ok(new ResponseData(200, true, "Active products found", page, null, null));
+        }
+        String eTag = productService.getActiveCatalogETag();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        List<ProductDTO> products = fullList.get();
+        if (products == null || products.isEmpty()) {
+            ResponseData body = new ResponseData(404, false, emptyMessage, null, null, null);
+            return emptyStatus == HttpStatus.OK ? withETag(eTag, body) : ResponseEntity.status(emptyStatus).body(body);
+        }
+        return withETag(eTag, new ResponseData(200, true, "Active products found", products, null, null));
+    }
+
+    private ProductFilterRequest toFilter(String skinTypes, String categories, Long minPrice, Long maxPrice, String productName) {
         if (maxPrice != null && (maxPrice <= 0 || maxPrice == Long.MAX_VALUE)) {
             maxPrice = null;
         }
+        return new ProductFilterRequest(parseList(skinTypes, SkinType::valueOf), parseList(categories, Category::valueOf),
+                minPrice, maxPrice, productName);
+    }
 
-        List<SkinType> skinTypeList = skinTypes != null
-                ? Arrays.stream(skinTypes.split(","))
-                .map(String::trim)
-                .map(SkinType::valueOf)
-                .collect(Collectors.toList())
-                : null;
-
-        List<Category> categoryList = categories != null
-                ? Arrays.stream(categories.split(","))
+    private <T> List<T> parseList(String values, Function<String, T> parser) {
+        return values != null
+                ? Arrays.stream(values.split(","))
                 .map(String::trim)
-                .map(Category::valueOf)
+                .map(parser)
                 .collect(Collectors.toList())
                 : null;
+    }
 
-        List<ProductDTO> products = productService.getActiveProductsByFilter(skinTypeList, categoryList, minPrice, maxPrice);
-
-        if (products == null || products.isEmpty()) {
-            return ResponseEntity.ok(new ResponseData(404, false, "No active products matching the filter criteria", null, null, null));
+    // The ETag is read before the data, so a response is never tagged newer than its content
+    private ResponseEntity<ResponseData> withETag(String eTag, ResponseData body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (eTag != null) {
+            builder.eTag(eTag);
         }
-
-        return ResponseEntity.ok(new ResponseData(200, true, "Active products found", products, null, null));
+        return builder.body(body);
     }
-}
\ No newline at end of file
+}
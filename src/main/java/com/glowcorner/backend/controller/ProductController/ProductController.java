@@ -4,11 +4,16 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.glowcorner.backend.enums.SkinType;
 import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.ProductSort;
+import com.glowcorner.backend.enums.ProductView;
+import com.glowcorner.backend.model.DTO.CursorPageDTO;
 import com.glowcorner.backend.model.DTO.ProductDTO;
 import com.glowcorner.backend.model.DTO.request.Product.CreateProductRequest;
+import com.glowcorner.backend.model.DTO.request.Product.ProductFilterRequest;
 import com.glowcorner.backend.model.DTO.response.ResponseData;
 import com.glowcorner.backend.service.interfaces.CloudinaryService;
 import com.glowcorner.backend.service.interfaces.ProductService;
+import com.glowcorner.backend.utils.CursorCodec;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,6 +27,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Tag(name = "Product Management System", description = "Operations pertaining to products in the Product Management System")
@@ -41,13 +47,14 @@ public class ProductController {
     // Get all products
     @Operation(summary = "Get all products", description = "Retrieve a list of all available products")
     @GetMapping
-    public ResponseEntity<ResponseData> getAllProducts() {
+    public ResponseEntity<ResponseData> getAllProducts(
+            @RequestParam(value = "view", required = false) ProductView view,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
-            List<ProductDTO> products = productService.getAllProducts();
-            if (products.isEmpty()) {
-                return ResponseEntity.ok(new ResponseData(404, false, "No products found", null, null, null));
-            }
-            return ResponseEntity.ok(new ResponseData(200, true, "Products found", products, null, null));
+            return listProducts(null, view, sort, cursor, size, productService::getAllProducts,
+                    ResponseEntity.ok(new ResponseData(404, false, "No products found", null, null, null)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ResponseData(500, false, "Failed to retrieve products: " + e.getMessage(), null, null, null));
@@ -69,22 +76,29 @@ public class ProductController {
     // Get products by skinType
     @Operation(summary = "Get products by category", description = "Retrieve a list of products using their category")
     @GetMapping("/skinType/{skinType}")
-    public ResponseEntity<ResponseData> getProductsByCategory(@PathVariable SkinType skinType) {
-        List<ProductDTO> products = productService.getProductsBySkinType(skinType);
-        if (products.isEmpty()) {
-            return ResponseEntity.ok(new ResponseData(404,true,"Products found", null,null,null) )   ;    }
-        return ResponseEntity.ok(new ResponseData(200, true, "Products found", products, null, null));
+    public ResponseEntity<ResponseData> getProductsByCategory(
+            @PathVariable SkinType skinType,
+            @RequestParam(value = "view", required = false) ProductView view,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        ProductFilterRequest filter = new ProductFilterRequest(List.of(skinType), null, null, null, null);
+        return listProducts(filter, view, sort, cursor, size, () -> productService.getProductsBySkinType(skinType),
+                ResponseEntity.ok(new ResponseData(404, true, "Products found", null, null, null)));
     }
 
     // Get products by category
     @Operation(summary = "Get products by category", description = "Retrieve a list of products using their category")
     @GetMapping("/category/{category}")
-    public ResponseEntity<ResponseData> getProductsByCategory(@PathVariable Category category) {
-        List<ProductDTO> products = productService.getProductsByCategory(category);
-        if (products.isEmpty()) {
-            return ResponseEntity.ok(new ResponseData(404, true, "There is no product in category", null, null, null));
-        }
-        return ResponseEntity.ok(new ResponseData(200, true, "Products found", products, null, null));
+    public ResponseEntity<ResponseData> getProductsByCategory(
+            @PathVariable Category category,
+            @RequestParam(value = "view", required = false) ProductView view,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        ProductFilterRequest filter = new ProductFilterRequest(null, List.of(category), null, null, null);
+        return listProducts(filter, view, sort, cursor, size, () -> productService.getProductsByCategory(category),
+                ResponseEntity.ok(new ResponseData(404, true, "There is no product in category", null, null, null)));
     }
 
     // Get products by filter
@@ -94,7 +108,11 @@ public class ProductController {
             @RequestParam(value = "skinTypes", required = false) String skinTypes,
             @RequestParam(value = "categories", required = false) String categories,
             @RequestParam(value = "minPrice", required = false) Long minPrice,
-            @RequestParam(value = "maxPrice", required = false) Long maxPrice
+            @RequestParam(value = "maxPrice", required = false) Long maxPrice,
+            @RequestParam(value = "view", required = false) ProductView view,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size
     ) {
         // Kiểm tra giá trị maxPrice
         if (maxPrice != null && (maxPrice <= 0 || maxPrice == Long.MAX_VALUE)) {
@@ -115,28 +133,26 @@ public class ProductController {
                 .collect(Collectors.toList())
                 : null;
 
+        ProductFilterRequest filter = new ProductFilterRequest(skinTypeList, categoryList, minPrice, maxPrice, null);
         // Gọi service để lấy danh sách sản phẩm
-        List<ProductDTO> products = productService.getProductsByFilter(skinTypeList, categoryList, minPrice, maxPrice);
-
-        // Kiểm tra nếu không tìm thấy sản phẩm
-        if (products == null || products.isEmpty()) {
-            return ResponseEntity.ok(new ResponseData(404, true, "There is no product matching the filter criteria", null, null, null));
-        }
-
-        return ResponseEntity.ok(new ResponseData(200, true, "Products found", products, null, null));
+        return listProducts(filter, view, sort, cursor, size,
+                () -> productService.getProductsByFilter(filter.getSkinTypes(), filter.getCategories(), filter.getMinPrice(), filter.getMaxPrice()),
+                ResponseEntity.ok(new ResponseData(404, true, "There is no product matching the filter criteria", null, null, null)));
     }
 
 
     // Get products by product name
     @Operation(summary = "Get products by name", description = "Retrieve a list of products using their name")
     @GetMapping("/name/{productName}")
-    public ResponseEntity<ResponseData> getProductsByProductName(@PathVariable String productName) {
-        List<ProductDTO> products = productService.getProductsByProductName(productName);
-        if (products.isEmpty()) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(new ResponseData(404, false, "There is no product with name: " + productName, null, null, null));
-        }
-        return ResponseEntity.ok(new ResponseData(200, true, "Products found", products, null, null));
+    public ResponseEntity<ResponseData> getProductsByProductName(
+            @PathVariable String productName,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        ProductFilterRequest filter = new ProductFilterRequest(null, null, null, null, productName);
+        return listProducts(filter, null, sort, cursor, size, () -> productService.getProductsByProductName(productName),
+                ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ResponseData(404, false, "There is no product with name: " + productName, null, null, null)));
     }
 
     // Create a new product
@@ -227,4 +243,24 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
 
+
+    // Shared by every list endpoint: summary or full view, paged or the full list
+    private ResponseEntity<ResponseData> listProducts(ProductFilterRequest filter, ProductView view, ProductSort sort,
+            String cursor, Integer size, Supplier<List<ProductDTO>> fullList, ResponseEntity<ResponseData> whenEmpty) {
+        if (view == ProductView.SUMMARY) {
+            if (CursorCodec.isPaged(sort, cursor, size)) {
+                return ResponseEntity.ok(new ResponseData(200, true, "Products found", productService.getProductSummaryPage(filter, sort, cursor, size), null, null));
+            }
+            return ResponseEntity.ok(new ResponseData(200, true, "Products found", productService.getProductSummaries(filter), null, null));
+        }
+        if (CursorCodec.isPaged(sort, cursor, size)) {
+            CursorPageDTO<ProductDTO> page = productService.getProductPage(filter, sort, cursor, size);
+            return ResponseEntity.ok(new ResponseData(200, true, "Products found", page, null, null));
+        }
+        List<ProductDTO> products = fullList.get();
+        if (products == null || products.isEmpty()) {
+            return whenEmpty;
+        }
+        return ResponseEntity.ok(new ResponseData(200, true, "Products found", products, null, null));
+    }
 }
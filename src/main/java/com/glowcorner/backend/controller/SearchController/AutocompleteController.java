@@ -0,0 +1,34 @@
+package com.glowcorner.backend.controller.SearchController;
+
+import com.glowcorner.backend.model.DTO.SuggestionDTO;
+import com.glowcorner.backend.model.DTO.response.ResponseData;
+import com.glowcorner.backend.service.interfaces.AutocompleteService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Search", description = "Storefront search box operations")
+@RestController
+@RequestMapping("/api/customer/autocomplete")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    public AutocompleteController(AutocompleteService autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+    // Suggest product and routine names for a prefix
+    @Operation(summary = "Autocomplete product and routine names", description = "Retrieve the best rated product and routine names starting with the typed prefix")
+    @GetMapping
+    public ResponseEntity<ResponseData> suggest(
+            @RequestParam("q") String prefix,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        List<SuggestionDTO> suggestions = autocompleteService.suggest(prefix, limit);
+        return ResponseEntity.ok(new ResponseData(200, true, "Suggestions found", suggestions, null, null));
+    }
+}
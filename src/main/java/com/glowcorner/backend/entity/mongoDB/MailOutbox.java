@@ -0,0 +1,47 @@
+package com.glowcorner.backend.entity.mongoDB;
+
+import com.glowcorner.backend.enums.Status.MailStatus;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Document(collection = "mailOutbox") // Mails waiting for the background dispatcher
+@CompoundIndex(name = "status_next_attempt", def = "{'status': 1, 'nextAttemptAt': 1}")
+public class MailOutbox {
+
+    @Id
+    String id;
+
+    String to;
+
+    String subject;
+
+    String text;
+
+    MailStatus status;
+
+    int attempts;
+
+    // Due time while PENDING, lease end while SENDING
+    Date nextAttemptAt;
+
+    String lastError;
+
+    Date createdAt;
+
+    Date sentAt;
+
+    // Set once SENT or FAILED, removed by Mongo afterwards
+    @Indexed(expireAfterSeconds = 0)
+    Date expiresAt;
+}
@@ -4,12 +4,21 @@ import com.glowcorner.backend.enums.Status.OrderStatus;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Document(collection = "order") // Maps this entity to the "orders" MongoDB collection
+// Keyset paging indexes, newest first with _id as tie-breaker
+@CompoundIndexes({
+        @CompoundIndex(name = "customer_date", def = "{'customerID': 1, 'orderDate': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_date", def = "{'status': 1, 'orderDate': -1, '_id': -1}"),
+        @CompoundIndex(name = "date", def = "{'orderDate': -1, '_id': -1}")
+})
 @Data
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Order {
@@ -17,6 +26,7 @@ public class Order {
     @Id
     String id; // Unique MongoDB document identifier (can be ignored if unused)
 
+    @Indexed(unique = true)
     String orderID; // Primary key for orders
 
     String customerID; // Refers to userID in the User collection (foreign key in SQL)
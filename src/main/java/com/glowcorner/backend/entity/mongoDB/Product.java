@@ -7,6 +7,9 @@ import com.glowcorner.backend.enums.Status.ProductStatus;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.List;
@@ -16,6 +19,14 @@ import java.util.List;
 @Document(collection = "product") // Maps this class to the "products" MongoDB collection
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @NoArgsConstructor
+@CompoundIndexes({
+        @CompoundIndex(name = "status_category", def = "{'status': 1, 'category': 1}"),
+        @CompoundIndex(name = "status_skinTypes", def = "{'status': 1, 'skinTypes': 1}"),
+        @CompoundIndex(name = "status_price", def = "{'status': 1, 'price': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_discountedPrice", def = "{'status': 1, 'discountedPrice': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_rating", def = "{'status': 1, 'rating': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_productName", def = "{'status': 1, 'productName': 1, '_id': 1}")
+})
 public class Product {
 
 
@@ -23,6 +34,7 @@ public class Product {
    String id;
 
 
+   @Indexed
    String productID;
 
 
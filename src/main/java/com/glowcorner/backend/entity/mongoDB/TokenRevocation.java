@@ -0,0 +1,37 @@
+package com.glowcorner.backend.entity.mongoDB;
+
+import com.glowcorner.backend.enums.RevocationType;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@Document(collection = "tokenRevocation") // Revocation events shared between nodes
+public class TokenRevocation {
+
+    @Id
+    String id;
+
+    RevocationType type;
+
+    // Token hash for TOKEN, user email otherwise
+    String subject;
+
+    // Tokens of the user issued before this instant are rejected (TOKENS_ISSUED_BEFORE)
+    Long issuedBefore;
+
+    @Indexed
+    Date createdAt;
+
+    // Removed by Mongo once no token it could affect is still valid
+    @Indexed(expireAfterSeconds = 0)
+    Date expiresAt;
+}
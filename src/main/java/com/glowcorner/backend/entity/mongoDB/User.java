@@ -7,6 +7,7 @@ import com.glowcorner.backend.enums.Status.UserStatus;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.util.List;
@@ -20,6 +21,7 @@ public class User {
     @Id
     String id;
 
+    @Indexed
     String userID;
 
     String fullName;
@@ -0,0 +1,22 @@
+package com.glowcorner.backend.enums;
+
+import lombok.Getter;
+import org.springframework.data.domain.Sort;
+
+@Getter
+public enum ProductSort {
+    ID("_id", Sort.Direction.ASC),
+    PRICE("price", Sort.Direction.ASC),
+    // Stored discountedPrice, kept current by PromotionActivationJob
+    EFFECTIVE_PRICE("discountedPrice", Sort.Direction.ASC),
+    RATING("rating", Sort.Direction.DESC),
+    NAME("productName", Sort.Direction.ASC);
+
+    private final String field;
+    private final Sort.Direction direction;
+
+    ProductSort(String field, Sort.Direction direction) {
+        this.field = field;
+        this.direction = direction;
+    }
+}
@@ -0,0 +1,8 @@
+package com.glowcorner.backend.enums;
+
+public enum RevocationType {
+    TOKEN,
+    // No longer written: disabled users follow User.status. Kept so stored events still map
+    USER_DISABLED,
+    TOKENS_ISSUED_BEFORE
+}
@@ -0,0 +1,8 @@
+package com.glowcorner.backend.enums.Status;
+
+public enum MailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
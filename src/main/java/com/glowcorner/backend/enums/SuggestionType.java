@@ -0,0 +1,6 @@
+package com.glowcorner.backend.enums;
+
+public enum SuggestionType {
+    PRODUCT,
+    ROUTINE
+}
@@ -0,0 +1,18 @@
+package com.glowcorner.backend.model.DTO;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class CursorPageDTO<T> {
+
+    List<T> items;
+    // Opaque token for the next page, null on the last page
+    String nextCursor;
+    int size;
+}
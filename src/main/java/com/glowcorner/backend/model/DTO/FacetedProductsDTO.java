@@ -0,0 +1,22 @@
+package com.glowcorner.backend.model.DTO;
+
+import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.SkinType;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class FacetedProductsDTO {
+
+    CursorPageDTO<ProductDTO> page;
+    // Each dimension is counted with the filters of the other dimensions applied
+    Map<SkinType, Long> skinTypes;
+    Map<Category, Long> categories;
+    List<PriceBucketDTO> priceBuckets;
+}
@@ -0,0 +1,17 @@
+package com.glowcorner.backend.model.DTO;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class PriceBucketDTO {
+
+    // Inclusive lower bound
+    Long minPrice;
+    // Exclusive upper bound, null for the last bucket
+    Long maxPrice;
+    long count;
+}
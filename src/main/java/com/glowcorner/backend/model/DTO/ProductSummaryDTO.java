@@ -0,0 +1,19 @@
+package com.glowcorner.backend.model.DTO;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+// Compact product for list grids, see ProductDTO for the detail view
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class ProductSummaryDTO {
+
+    String productID;
+    String productName;
+    Long price;
+    Long discountedPrice;
+    Float rating;
+    String image_url;
+}
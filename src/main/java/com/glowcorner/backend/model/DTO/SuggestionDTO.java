@@ -0,0 +1,18 @@
+package com.glowcorner.backend.model.DTO;
+
+import com.glowcorner.backend.enums.SuggestionType;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class SuggestionDTO {
+
+    SuggestionType type;
+    // productID or routineID
+    String id;
+    String name;
+    Float rating;
+}
@@ -0,0 +1,18 @@
+package com.glowcorner.backend.model.DTO.request.Cart;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AddCartItemRequest {
+
+    String productID;
+    int quantity;
+
+}
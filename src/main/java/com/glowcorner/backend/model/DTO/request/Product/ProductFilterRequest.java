@@ -0,0 +1,24 @@
+package com.glowcorner.backend.model.DTO.request.Product;
+
+import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.SkinType;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductFilterRequest {
+
+    List<SkinType> skinTypes;
+    List<Category> categories;
+    Long minPrice;
+    Long maxPrice;
+    String productName;
+}
@@ -5,6 +5,7 @@ import com.glowcorner.backend.model.DTO.request.Quiz.CreateQuizRequest;
 import com.glowcorner.backend.service.implement.CounterServiceImpl;
 import org.springframework.stereotype.Component;
 
+import java.util.Iterator;
 import java.util.stream.Collectors;
 
 @Component
@@ -25,9 +26,13 @@ public class CreateQuizRequestMapper {
         Quiz quiz = new Quiz();
         quiz.setQuestionId(counterService.getNextQuestionID());
         quiz.setQuizText(request.getQuizText());
-        quiz.setOptions(request.getAnswerOptionRequests().stream()
-                .map(options -> createAnswerOptionRequestMapper.fromCreateRequest(options, quiz.getQuestionId()))
-                .collect(Collectors.toList()));
+        if (request.getAnswerOptionRequests() != null) {
+            // One counter update for all option IDs
+            Iterator<String> optionIDs = counterService.reserveIDs("optionID", request.getAnswerOptionRequests().size());
+            quiz.setOptions(request.getAnswerOptionRequests().stream()
+                    .map(options -> createAnswerOptionRequestMapper.fromCreateRequest(options, quiz.getQuestionId(), optionIDs.next()))
+                    .collect(Collectors.toList()));
+        }
         return quiz;
     }
 }
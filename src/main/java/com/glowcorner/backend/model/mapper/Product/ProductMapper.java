@@ -3,8 +3,11 @@ package com.glowcorner.backend.model.mapper.Product;
 import com.glowcorner.backend.entity.mongoDB.Product;
 import com.glowcorner.backend.enums.SkinType;
 import com.glowcorner.backend.model.DTO.ProductDTO;
+import com.glowcorner.backend.model.DTO.ProductSummaryDTO;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+
 @Component
 public class ProductMapper {
 
@@ -27,4 +30,40 @@ public class ProductMapper {
             product.getStatus()
         );
     }
+
+    // Copy a ProductDTO, including its skin type list
+    public ProductDTO copy(ProductDTO productDTO) {
+        if (productDTO == null) {
+            return null;
+        }
+
+        return new ProductDTO(
+            productDTO.getProductID(),
+            productDTO.getProductName(),
+            productDTO.getDescription(),
+            productDTO.getPrice(),
+            productDTO.getDiscountedPrice(),
+            productDTO.getSkinTypes() != null ? new ArrayList<>(productDTO.getSkinTypes()) : null,
+            productDTO.getCategory(),
+            productDTO.getRating(),
+            productDTO.getImage_url(),
+            productDTO.getStatus()
+        );
+    }
+
+    // Convert a priced ProductDTO to the list summary
+    public ProductSummaryDTO toSummaryDTO(ProductDTO productDTO) {
+        if (productDTO == null) {
+            return null;
+        }
+
+        return new ProductSummaryDTO(
+            productDTO.getProductID(),
+            productDTO.getProductName(),
+            productDTO.getPrice(),
+            productDTO.getDiscountedPrice(),
+            productDTO.getRating(),
+            productDTO.getImage_url()
+        );
+    }
 }
@@ -0,0 +1,11 @@
+package com.glowcorner.backend.repository;
+
+import com.glowcorner.backend.entity.mongoDB.MailOutbox;
+import com.glowcorner.backend.enums.Status.MailStatus;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Collection;
+
+public interface MailOutboxRepository extends MongoRepository<MailOutbox, String> {
+    long countByStatusIn(Collection<MailStatus> statuses);
+}
@@ -3,6 +3,7 @@ package com.glowcorner.backend.repository;
 import com.glowcorner.backend.entity.mongoDB.Product;
 import com.glowcorner.backend.enums.Category;
 import com.glowcorner.backend.enums.SkinType;
+import com.glowcorner.backend.enums.Status.ProductStatus;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -18,5 +19,11 @@ public interface ProductRepository extends MongoRepository<Product, String> {
     void deleteByProductID(String productID);
     List<Product> findBySkinTypesIn(SkinType skinType);
     List<Product> findByCategory(Category category);
-    List<Product> findByProductNameContainingIgnoreCase(String productName);
+    List<Product> findByProductIDIn(List<String> productIDs);
+
+    // Status-filtered queries, served by the (status, ...) compound indexes on Product
+    List<Product> findByStatus(ProductStatus status);
+    Optional<Product> findByProductIDAndStatus(String productID, ProductStatus status);
+    List<Product> findByStatusAndSkinTypes(ProductStatus status, SkinType skinType);
+    List<Product> findByStatusAndCategory(ProductStatus status, Category category);
 }
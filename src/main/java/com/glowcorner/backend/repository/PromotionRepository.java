@@ -20,9 +20,6 @@ public interface PromotionRepository extends MongoRepository<Promotion, String>
     List<Promotion> findByProductIDsIn(Collection<String> productIDs);
     List<Promotion> findByStartDateLessThanEqualAndEndDateGreaterThanEqual(LocalDate startDate, LocalDate endDate);
 
-    @Query("{ 'startDate': { '$lte': ?0 }, 'endDate': { '$gte': ?1 }, 'productIDs': { '$in': ?2 } }")
-    Optional<Promotion> findActivePromotion(LocalDate startDate, LocalDate endDate, List<String> productIDs);
-
     @Query(value = "{ 'productIDs': { '$in': ?0 }, '$or': [ { 'startDate': { '$lte': ?2 }, 'endDate': { '$gte': ?1 } } ] }", count = true)
     long countByProductIDsAndDateRangeOverlap(List<String> productIDs, LocalDate startDate, LocalDate endDate);
 
@@ -3,8 +3,10 @@ package com.glowcorner.backend.security;
 import com.glowcorner.backend.entity.mongoDB.User;
 import com.glowcorner.backend.enums.Role;
 import com.glowcorner.backend.repository.UserRepository;
+import com.glowcorner.backend.security.ratelimit.RateLimitFilter;
 import com.glowcorner.backend.utils.JwtUtilHelper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -37,6 +39,9 @@ public class CustomFilterSecurity {
     @Autowired
     private CustomJwtFilter customJwtFilter;
 
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -56,6 +61,7 @@ public class CustomFilterSecurity {
                 "/auth/signup", "/auth/register",
                 "/auth/forgot-password",
                 "/auth/change-password",
+                "/auth/logout",
                 "/api/customer/**",
                 "/api/products/**",
                 "/api/customer/products/filter",
@@ -123,6 +129,7 @@ public class CustomFilterSecurity {
                         }));
 
         http.addFilterBefore(customJwtFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterAfter(rateLimitFilter, CustomJwtFilter.class);
         return http.build();
     }
 
@@ -155,8 +162,8 @@ public class CustomFilterSecurity {
     }
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -1,8 +1,11 @@
 package com.glowcorner.backend.security;
 
 import com.glowcorner.backend.entity.mongoDB.User;
+import com.glowcorner.backend.enums.Role;
 import com.glowcorner.backend.repository.UserRepository;
 import com.glowcorner.backend.utils.JwtUtilHelper;
+import com.glowcorner.backend.utils.TokenDigest;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +31,12 @@ public class CustomJwtFilter extends OncePerRequestFilter {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -45,23 +54,54 @@ public class CustomJwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (jwtUtilHelper.verifyToken(token)) {
-            String email = jwtUtilHelper.getUsernameFromToken(token);
+        String tokenHash = TokenDigest.sha256(token);
+        VerifiedTokenCache.VerifiedToken verified = verify(token, tokenHash);
+        if (verified != null && !tokenRevocationStore.isRevoked(tokenHash, verified.email(), verified.issuedAtMillis())) {
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    verified.email(), null,
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + verified.role())));
+            SecurityContextHolder.getContext().setAuthentication(authentication);
+        }
 
-            // Check if the email exists in the user table (for admins)
+        filterChain.doFilter(request, response);
+    }
+
+    // Cached result, or one parse of the token with the role taken from its signed claim
+    private VerifiedTokenCache.VerifiedToken verify(String token, String tokenHash) {
+        VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(tokenHash);
+        if (verified != null) {
+            return verified;
+        }
+
+        Claims claims = jwtUtilHelper.parseClaims(token);
+        if (claims == null || claims.getSubject() == null) {
+            return null;
+        }
+        String email = claims.getSubject();
+        String role = roleFromClaim(claims.get("role", String.class));
+        if (role == null) {
+            // Tokens without a usable role claim fall back to the user table
             Optional<User> user = userRepository.findByEmail(email);
-            if (user.isPresent()) {
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        email, null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.get().getRole().name())));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                filterChain.doFilter(request, response);
-                return;
+            if (user.isEmpty() || user.get().getRole() == null) {
+                return null;
             }
-
+            role = user.get().getRole().name();
         }
 
-        filterChain.doFilter(request, response);
+        long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L;
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        return verifiedTokenCache.put(tokenHash, email, role, issuedAt, expiresAt);
+    }
+
+    private String roleFromClaim(String role) {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role).name();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     private String getTokenFromHeader(HttpServletRequest request) {
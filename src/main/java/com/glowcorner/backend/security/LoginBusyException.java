@@ -0,0 +1,11 @@
+package com.glowcorner.backend.security;
+
+/**
+ * Password verification could not be scheduled because the login executor is saturated.
+ */
+public class LoginBusyException extends RuntimeException {
+
+    public LoginBusyException(String message) {
+        super(message);
+    }
+}
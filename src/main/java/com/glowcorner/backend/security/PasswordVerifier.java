@@ -0,0 +1,145 @@
+package com.glowcorner.backend.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs BCrypt password checks on a small dedicated pool so a burst of logins cannot take every
+ * request thread. The queue is bounded; when it is full the login is rejected at once with
+ * LoginBusyException instead of waiting. auth.password.timeout-ms bounds the queue wait only: a
+ * check not started by then is rejected the same way and never hashed, while a check that has
+ * started always runs to completion so a valid login is not failed by its own hash time.
+ * Queue wait and hash time are recorded as auth.password.queue.wait and auth.password.hash,
+ * rejections as auth.password.rejected.
+ */
+@Slf4j
+@Component
+public class PasswordVerifier {
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long timeoutMillis;
+
+    private final Timer queueWait;
+
+    private final Timer hashTime;
+
+    private final Counter rejected;
+
+    @Value("${auth.bcrypt.calibrate:false}")
+    private boolean calibrate;
+
+    @Value("${auth.bcrypt.latency-budget-ms:250}")
+    private long latencyBudgetMillis;
+
+    public PasswordVerifier(BCryptPasswordEncoder bCryptPasswordEncoder, MeterRegistry meterRegistry,
+                            @Value("${auth.password.threads:0}") int threads,
+                            @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+                            @Value("${auth.password.timeout-ms:250}") long timeoutMillis) {
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        // BCrypt is CPU bound, one thread per core by default
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verifier-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueWait = meterRegistry.timer("auth.password.queue.wait");
+        this.hashTime = meterRegistry.timer("auth.password.hash");
+        this.rejected = meterRegistry.counter("auth.password.rejected");
+        meterRegistry.gauge("auth.password.queue.depth", executor, pool -> pool.getQueue().size());
+    }
+
+    // Check the password on the login pool, throws LoginBusyException when the pool is saturated
+    public boolean matches(String rawPassword, String passwordHash) {
+        if (rawPassword == null || passwordHash == null) {
+            return false;
+        }
+
+        long submittedAt = System.nanoTime();
+        long deadline = submittedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        // Whichever side claims first wins: the worker to start hashing, the caller to give up
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<Boolean> result;
+        try {
+            result = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                if (!claimed.compareAndSet(false, true)) {
+                    return false;
+                }
+                return hashTime.recordCallable(() -> bCryptPasswordEncoder.matches(rawPassword, passwordHash));
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new LoginBusyException("Too many login attempts, please retry shortly");
+        }
+
+        try {
+            try {
+                return result.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (claimed.compareAndSet(false, true)) {
+                    // Still queued at the deadline, the worker will skip it
+                    result.cancel(false);
+                    rejected.increment();
+                    throw new LoginBusyException("Login timed out, please retry shortly");
+                }
+                // Already hashing, cancelling would not stop BCrypt so wait for the answer
+                return result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Login interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Password verification failed: " + e.getCause().getMessage());
+        }
+    }
+
+    // Opt-in: time each BCrypt strength on this machine and log the highest within the latency budget
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrateStrength() {
+        if (!calibrate) {
+            return;
+        }
+        int recommended = 4;
+        for (int strength = 4; strength <= 16; strength++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+            String hash = encoder.encode("calibration");
+            long start = System.nanoTime();
+            encoder.matches("calibration", hash);
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("BCrypt strength {} takes {} ms", strength, millis);
+            if (millis > latencyBudgetMillis) {
+                break;
+            }
+            recommended = strength;
+        }
+        log.info("Recommended auth.bcrypt.strength for a {} ms budget: {}", latencyBudgetMillis, recommended);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,165 @@
+package com.glowcorner.backend.security;
+
+import com.glowcorner.backend.entity.mongoDB.TokenRevocation;
+import com.glowcorner.backend.entity.mongoDB.User;
+import com.glowcorner.backend.enums.RevocationType;
+import com.glowcorner.backend.enums.Status.UserStatus;
+import com.glowcorner.backend.utils.JwtUtilHelper;
+import com.glowcorner.backend.utils.MongoIndexes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory revocation state checked by CustomJwtFilter on every request in constant time:
+ * denied token hashes (logout), disabled users and per-user "tokens issued before" cut-offs.
+ * A cut-off covers the whole second it was set in, so a token issued in that second after the
+ * change is rejected too and the user signs in again.
+ * Disabled users follow User.status: the set is re-read from the user collection on every poll,
+ * so a user re-enabled on any node (or in the database) is let back in. Token denials and cut-offs
+ * are written to the tokenRevocation collection, which each node polls every
+ * jwt.revocation.poll-interval-ms so a change made on one node reaches the others.
+ * Events expire with the longest token lifetime.
+ */
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    // Events written on another node may carry a slightly earlier createdAt than our last poll
+    private static final long POLL_OVERLAP_MILLIS = 10_000;
+
+    private final MongoTemplate mongoTemplate;
+
+    // token hash -> token expiry
+    private final Map<String, Long> deniedTokens = new ConcurrentHashMap<>();
+
+    // Users with status DISABLE as of the last poll
+    private volatile Set<String> disabledUsers = Set.of();
+
+    // email -> when this node disabled the user, kept until a poll started later has read the status
+    private final Map<String, Long> disabledHere = new ConcurrentHashMap<>();
+
+    // email -> tokens issued before this instant are rejected
+    private final Map<String, Long> issuedBefore = new ConcurrentHashMap<>();
+
+    private volatile long lastPolled;
+
+    public TokenRevocationStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Whether a verified token must still be rejected
+    public boolean isRevoked(String tokenHash, String email, long issuedAtMillis) {
+        if (disabledUsers.contains(email) || disabledHere.containsKey(email) || deniedTokens.containsKey(tokenHash)) {
+            return true;
+        }
+        Long cutoff = issuedBefore.get(email);
+        return cutoff != null && issuedAtMillis < cutoff;
+    }
+
+    /* Changes */
+
+    // Deny one token until it expires (logout)
+    public void revokeToken(String tokenHash, long expiresAtMillis) {
+        publish(RevocationType.TOKEN, tokenHash, null, new Date(expiresAtMillis));
+    }
+
+    // Reject every token of a user whose status was just saved as DISABLE; other nodes read the status on their next poll
+    public void disableUser(String email) {
+        disabledHere.put(email, System.currentTimeMillis());
+    }
+
+    // Reject the user's tokens issued so far, e.g. after a role or email change
+    public void revokeTokensIssuedBefore(String email) {
+        // Token iat is truncated to the second, so the cutoff is the start of the next second:
+        // a token issued earlier in this second is rejected, and so is one issued later in it
+        long cutoff = (System.currentTimeMillis() / 1000 + 1) * 1000;
+        publish(RevocationType.TOKENS_ISSUED_BEFORE, email, cutoff, tokenLifetimeFromNow());
+    }
+
+    /* Loading and propagation */
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long now = System.currentTimeMillis();
+        try {
+            MongoIndexes.ensure(mongoTemplate, TokenRevocation.class);
+            reloadDisabledUsers(now);
+
+            mongoTemplate.find(Query.query(Criteria.where("expiresAt").gt(new Date(now))), TokenRevocation.class)
+                    .forEach(this::apply);
+            lastPolled = now;
+            log.info("Loaded {} disabled users, {} denied tokens and {} token cut-offs",
+                    disabledUsers.size(), deniedTokens.size(), issuedBefore.size());
+        } catch (RuntimeException e) {
+            log.warn("Could not load token revocations: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval-ms:5000}")
+    public void poll() {
+        long now = System.currentTimeMillis();
+        try {
+            reloadDisabledUsers(now);
+            Query query = Query.query(Criteria.where("createdAt").gte(new Date(lastPolled - POLL_OVERLAP_MILLIS)));
+            mongoTemplate.find(query, TokenRevocation.class).forEach(this::apply);
+            lastPolled = now;
+        } catch (RuntimeException e) {
+            log.warn("Could not poll token revocations: {}", e.getMessage());
+        }
+
+        // Forget state no valid token can match any more
+        deniedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        issuedBefore.values().removeIf(cutoff -> cutoff <= now - JwtUtilHelper.TOKEN_VALIDITY_MILLIS);
+    }
+
+    // Replaces the set, so users whose status went back to ACTIVE are dropped
+    private void reloadDisabledUsers(long startedAt) {
+        Query disabled = Query.query(Criteria.where("status").is(UserStatus.DISABLE));
+        disabled.fields().include("email");
+        disabledUsers = mongoTemplate.find(disabled, User.class).stream()
+                .map(User::getEmail)
+                .filter(email -> email != null)
+                .collect(Collectors.toUnmodifiableSet());
+        // The status was saved before disableUser ran, so a read started later has seen it
+        disabledHere.values().removeIf(disabledAt -> disabledAt < startedAt);
+    }
+
+    private void publish(RevocationType type, String subject, Long cutoff, Date expiresAt) {
+        TokenRevocation revocation = new TokenRevocation();
+        revocation.setType(type);
+        revocation.setSubject(subject);
+        revocation.setIssuedBefore(cutoff);
+        revocation.setCreatedAt(new Date());
+        revocation.setExpiresAt(expiresAt);
+
+        // Effective on this node at once, on the others after their next poll
+        apply(revocation);
+        mongoTemplate.insert(revocation);
+    }
+
+    // Idempotent, events are seen again within the poll overlap
+    private void apply(TokenRevocation revocation) {
+        switch (revocation.getType()) {
+            case TOKEN -> deniedTokens.put(revocation.getSubject(), revocation.getExpiresAt().getTime());
+            // Older events only; User.status decides, replaying them would lock out re-enabled users
+            case USER_DISABLED -> { }
+            case TOKENS_ISSUED_BEFORE -> issuedBefore.merge(revocation.getSubject(), revocation.getIssuedBefore(), Math::max);
+        }
+    }
+
+    private Date tokenLifetimeFromNow() {
+        return new Date(System.currentTimeMillis() + JwtUtilHelper.TOKEN_VALIDITY_MILLIS);
+    }
+}
@@ -0,0 +1,79 @@
+package com.glowcorner.backend.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded cache of tokens whose signature was already verified, keyed by the token's SHA-256.
+ * An entry lives until jwt.cache.ttl-seconds pass or the token expires, whichever comes first.
+ * Reads take no lock; when the cache overflows, one writer drops expired entries and then
+ * arbitrary ones down to 90% of jwt.cache.max-size, so a dropped token is simply verified again.
+ * Revocation is checked separately on every request, so a cached token can still be rejected.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public record VerifiedToken(String email, String role, long issuedAtMillis, long expiresAtMillis) {
+    }
+
+    private final int maxSize;
+
+    private final long ttlMillis;
+
+    private final Map<String, VerifiedToken> tokens = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    // Cached verification of the token, or null on a miss or when it has expired
+    public VerifiedToken get(String tokenHash) {
+        VerifiedToken verified = tokens.get(tokenHash);
+        if (verified != null && verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            tokens.remove(tokenHash, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    public VerifiedToken put(String tokenHash, String email, String role, long issuedAtMillis, long tokenExpiresAtMillis) {
+        VerifiedToken verified = new VerifiedToken(email, role, issuedAtMillis, Math.min(tokenExpiresAtMillis, System.currentTimeMillis() + ttlMillis));
+        tokens.put(tokenHash, verified);
+        if (tokens.size() > maxSize) {
+            trim();
+        }
+        return verified;
+    }
+
+    public void evict(String tokenHash) {
+        tokens.remove(tokenHash);
+    }
+
+    // Other writers skip the sweep while one runs; the cache may briefly exceed maxSize
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            tokens.values().removeIf(verified -> verified.expiresAtMillis() <= now);
+            int target = maxSize - maxSize / 10;
+            Iterator<String> keys = tokens.keySet().iterator();
+            while (tokens.size() > target && keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+}
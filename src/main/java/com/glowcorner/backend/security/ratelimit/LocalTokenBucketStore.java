@@ -0,0 +1,57 @@
+package com.glowcorner.backend.security.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process buckets. Each bucket is an immutable state swapped with compare-and-set, so
+ * concurrent requests never block each other.
+ */
+@Component
+@ConditionalOnProperty(name = "rate-limit.shared-state", havingValue = "false", matchIfMissing = true)
+public class LocalTokenBucketStore implements TokenBucketStore {
+
+    // refillNanos: time for an empty bucket of this route to fill up again
+    private record State(double tokens, long refilledAtNanos, long refillNanos) {
+    }
+
+    private final Map<String, AtomicReference<State>> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public Decision tryConsume(String key, int capacity, int refillPerMinute) {
+        double tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        long refillNanos = (long) Math.ceil(capacity / tokensPerNano);
+        AtomicReference<State> bucket = buckets.computeIfAbsent(key,
+                k -> new AtomicReference<>(new State(capacity, System.nanoTime(), refillNanos)));
+
+        while (true) {
+            State current = bucket.get();
+            long now = System.nanoTime();
+            double tokens = Math.min(capacity, current.tokens() + (now - current.refilledAtNanos()) * tokensPerNano);
+            if (tokens >= 1) {
+                if (bucket.compareAndSet(current, new State(tokens - 1, now, refillNanos))) {
+                    return new Decision(true, 0);
+                }
+            } else {
+                long retryAfterNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+                return new Decision(false, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos) + 1));
+            }
+        }
+    }
+
+    // Drop buckets idle long enough to have refilled completely
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> {
+            State state = bucket.get();
+            return now - state.refilledAtNanos() > state.refillNanos();
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.glowcorner.backend.security.ratelimit;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.ReturnDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buckets shared by all nodes, enabled with rate-limit.shared-state=true.
+ * Refill and consumption happen in one findOneAndUpdate pipeline per request, so nodes never
+ * race on a bucket. Idle buckets are removed by a TTL index.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rate-limit.shared-state", havingValue = "true")
+public class MongoTokenBucketStore implements TokenBucketStore {
+
+    private static final String COLLECTION = "rateLimitBucket";
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoTokenBucketStore(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.getCollection(COLLECTION)
+                    .createIndex(Indexes.ascending("expireAt"), new IndexOptions().expireAfter(0L, TimeUnit.SECONDS));
+        } catch (RuntimeException e) {
+            log.warn("Could not ensure rate limit bucket index: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Decision tryConsume(String key, int capacity, int refillPerMinute) {
+        double tokensPerMilli = refillPerMinute / 60_000.0;
+        long now = System.currentTimeMillis();
+
+        // tokens = min(capacity, tokens + elapsed * rate), a missing bucket starts full
+        Document refilled = new Document("$min", Arrays.asList(capacity, new Document("$add", Arrays.asList(
+                new Document("$ifNull", Arrays.asList("$tokens", capacity)),
+                new Document("$multiply", Arrays.asList(
+                        new Document("$subtract", Arrays.asList(now, new Document("$ifNull", Arrays.asList("$refilledAt", now)))),
+                        tokensPerMilli))))));
+        Document allowed = new Document("$gte", Arrays.asList("$tokens", 1));
+        List<Document> pipeline = List.of(
+                new Document("$set", new Document("tokens", refilled)),
+                new Document("$set", new Document("allowed", allowed)),
+                new Document("$set", new Document("tokens", new Document("$cond", Arrays.asList("$allowed", new Document("$subtract", Arrays.asList("$tokens", 1)), "$tokens")))
+                        .append("refilledAt", now)
+                        .append("expireAt", new Date(now + fullRefillMillis(capacity, refillPerMinute)))));
+
+        Document bucket = mongoTemplate.getCollection(COLLECTION).findOneAndUpdate(Filters.eq("_id", key), pipeline,
+                new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+        if (bucket == null || bucket.getBoolean("allowed", true)) {
+            return new Decision(true, 0);
+        }
+        double tokens = bucket.get("tokens", Number.class).doubleValue();
+        return new Decision(false, Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerMilli / 1000)));
+    }
+
+    private long fullRefillMillis(int capacity, int refillPerMinute) {
+        return (long) Math.ceil(capacity * 60_000.0 / Math.max(1, refillPerMinute));
+    }
+}
@@ -0,0 +1,108 @@
+package com.glowcorner.backend.security.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glowcorner.backend.config.RateLimitProperties;
+import com.glowcorner.backend.model.DTO.response.ResponseData;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Admission control for expensive endpoints (login, forgot-password, checkout).
+ * Runs after CustomJwtFilter so routes keyed by USER see the authenticated user. The first
+ * configured route matching the request takes one token from its bucket; an empty bucket
+ * answers 429 with Retry-After. If the bucket store fails (e.g. Mongo is unreachable in shared
+ * mode) the request is let through rather than answered with a 500.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+
+    private final TokenBucketStore tokenBucketStore;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public RateLimitFilter(RateLimitProperties properties, TokenBucketStore tokenBucketStore) {
+        this.properties = properties;
+        this.tokenBucketStore = tokenBucketStore;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RateLimitProperties.Route route = properties.isEnabled() ? findRoute(request) : null;
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = route.getName() + ":" + clientKey(request, route.getKey());
+        TokenBucketStore.Decision decision;
+        try {
+            decision = tokenBucketStore.tryConsume(key, route.getCapacity(), route.getRefillPerMinute());
+        } catch (RuntimeException e) {
+            log.warn("Rate limit check for {} failed, allowing the request: {}", route.getName(), e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new ResponseData(429, false, "Too many requests, retry in " + decision.retryAfterSeconds() + "s", null, null, null));
+    }
+
+    private RateLimitProperties.Route findRoute(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            boolean methodMatches = !StringUtils.hasText(route.getMethod()) || route.getMethod().equalsIgnoreCase(request.getMethod());
+            if (methodMatches && pathMatcher.match(route.getPattern(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private String clientKey(HttpServletRequest request, RateLimitProperties.KeyType keyType) {
+        if (keyType == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated() && authentication.getName() != null
+                    && !"anonymousUser".equals(authentication.getName())) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + clientIp(request);
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                return forwardedFor.split(",")[0].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
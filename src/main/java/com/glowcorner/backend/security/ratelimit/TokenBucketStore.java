@@ -0,0 +1,13 @@
+package com.glowcorner.backend.security.ratelimit;
+
+/**
+ * Holds the token buckets of the rate limiter.
+ */
+public interface TokenBucketStore {
+
+    record Decision(boolean allowed, long retryAfterSeconds) {
+    }
+
+    // Take one token from the bucket, creating it full when missing
+    Decision tryConsume(String key, int capacity, int refillPerMinute);
+}
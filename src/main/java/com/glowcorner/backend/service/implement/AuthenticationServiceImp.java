@@ -14,11 +14,10 @@ import com.glowcorner.backend.repository.CartRepository;
 import com.glowcorner.backend.repository.PasswordResetTokenRepository;
 import com.glowcorner.backend.repository.UserRepository;
 import com.glowcorner.backend.service.interfaces.AuthenticationService;
+import com.glowcorner.backend.service.interfaces.MailOutboxService;
 import com.glowcorner.backend.utils.JwtUtilHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -39,7 +38,7 @@ public class AuthenticationServiceImp implements AuthenticationService {
     @Autowired
     private PasswordResetTokenRepository passwordResetTokenRepository;
     @Autowired
-    private JavaMailSender javaMailSender;
+    private MailOutboxService mailOutboxService;
     @Autowired
     private CounterServiceImpl counterServiceImpl;
     @Autowired
@@ -108,12 +107,9 @@ public class AuthenticationServiceImp implements AuthenticationService {
         // Lưu token mới
         passwordResetTokenRepository.save(token);
 
-        // Gửi email
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(request.getEmail());
-        message.setSubject("Password Reset Passcode");
-        message.setText("Your passcode is: " + passcode + ". It expires in 15 minutes.");
-        javaMailSender.send(message);
+        // Gửi email (queued, sent by MailOutboxDispatcher)
+        mailOutboxService.enqueue(request.getEmail(), "Password Reset Passcode",
+                "Your passcode is: " + passcode + ". It expires in 15 minutes.");
 
         return "Passcode sent to your email.";
     }
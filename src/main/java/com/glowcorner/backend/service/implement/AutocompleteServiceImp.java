@@ -0,0 +1,29 @@
+package com.glowcorner.backend.service.implement;
+
+import com.glowcorner.backend.model.DTO.SuggestionDTO;
+import com.glowcorner.backend.service.implement.catalog.AutocompleteIndex;
+import com.glowcorner.backend.service.interfaces.AutocompleteService;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class AutocompleteServiceImp implements AutocompleteService {
+
+    private static final int DEFAULT_LIMIT = 8;
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    public AutocompleteServiceImp(AutocompleteIndex autocompleteIndex) {
+        this.autocompleteIndex = autocompleteIndex;
+    }
+
+    // Top product and routine names starting with the prefix
+    @Override
+    public List<SuggestionDTO> suggest(String prefix, Integer limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return autocompleteIndex.suggest(prefix, limit != null ? limit : DEFAULT_LIMIT);
+    }
+}
@@ -0,0 +1,32 @@
+package com.glowcorner.backend.service.implement;
+
+import com.glowcorner.backend.entity.mongoDB.MailOutbox;
+import com.glowcorner.backend.enums.Status.MailStatus;
+import com.glowcorner.backend.repository.MailOutboxRepository;
+import com.glowcorner.backend.service.interfaces.MailOutboxService;
+import org.springframework.stereotype.Service;
+
+import java.util.Date;
+
+@Service
+public class MailOutboxServiceImp implements MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    public MailOutboxServiceImp(MailOutboxRepository mailOutboxRepository) {
+        this.mailOutboxRepository = mailOutboxRepository;
+    }
+
+    @Override
+    public void enqueue(String to, String subject, String text) {
+        Date now = new Date();
+        MailOutbox mail = new MailOutbox();
+        mail.setTo(to);
+        mail.setSubject(subject);
+        mail.setText(text);
+        mail.setStatus(MailStatus.PENDING);
+        mail.setNextAttemptAt(now);
+        mail.setCreatedAt(now);
+        mailOutboxRepository.insert(mail);
+    }
+}
@@ -4,6 +4,7 @@ import com.glowcorner.backend.entity.mongoDB.*;
 import com.glowcorner.backend.enums.PaymentMethod;
 import com.glowcorner.backend.enums.Status.OrderStatus;
 import com.glowcorner.backend.enums.Role;
+import com.glowcorner.backend.model.DTO.CursorPageDTO;
 import com.glowcorner.backend.model.DTO.Order.OrderDTO;
 import com.glowcorner.backend.model.DTO.Order.OrderDetailDTO;
 import com.glowcorner.backend.model.DTO.Order.OrderInfoDTO;
@@ -11,13 +12,30 @@ import com.glowcorner.backend.model.DTO.Order.PaymentInfo;
 import com.glowcorner.backend.model.mapper.Order.OrderDetailMapper;
 import com.glowcorner.backend.model.mapper.Order.OrderMapper;
 import com.glowcorner.backend.repository.*;
+import com.glowcorner.backend.service.implement.cart.CartWriter;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+import com.glowcorner.backend.service.interfaces.CartService;
 import com.glowcorner.backend.service.interfaces.OrderService;
 import com.glowcorner.backend.service.interfaces.payment.PaymentProcessor;
+import com.glowcorner.backend.utils.CursorCodec;
+import com.mongodb.MongoException;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -40,10 +58,29 @@ public class OrderServiceImp implements OrderService {
 
     private final CartRepository cartRepository;
 
-    private final PromotionRepository promotionRepository;
+    private final PromotionIndex promotionIndex;
     private final CounterServiceImpl counterServiceImpl;
 
-    public OrderServiceImp(OrderRepository orderRepository, OrderDetailRepository orderDetailRepository, ProductRepository productRepository, UserRepository userRepository, OrderMapper orderMapper, OrderDetailMapper orderDetailMapper, List<PaymentProcessor> processors, CartRepository cartRepository, PromotionRepository promotionRepository, CounterServiceImpl counterServiceImpl) {
+    private final CartService cartService;
+
+    private final CartWriter cartWriter;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MongoTemplate mongoTemplate;
+
+    private static final String ORDER_DATE_CURSOR = "ORDER_DATE";
+
+    @Value("${order.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${order.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${order.checkout.transaction-attempts:3}")
+    private int checkoutAttempts;
+
+    public OrderServiceImp(OrderRepository orderRepository, OrderDetailRepository orderDetailRepository, ProductRepository productRepository, UserRepository userRepository, OrderMapper orderMapper, OrderDetailMapper orderDetailMapper, List<PaymentProcessor> processors, CartRepository cartRepository, PromotionIndex promotionIndex, CounterServiceImpl counterServiceImpl, CartService cartService, CartWriter cartWriter, TransactionTemplate transactionTemplate, MongoTemplate mongoTemplate) {
         this.orderRepository = orderRepository;
         this.orderDetailRepository = orderDetailRepository;
         this.productRepository = productRepository;
@@ -53,8 +90,12 @@ public class OrderServiceImp implements OrderService {
         this.paymentProcessors = processors.stream()
                 .collect(Collectors.toMap(PaymentProcessor::getSupportedMethod, Function.identity()));
         this.cartRepository = cartRepository;
-        this.promotionRepository = promotionRepository;
+        this.promotionIndex = promotionIndex;
         this.counterServiceImpl = counterServiceImpl;
+        this.cartService = cartService;
+        this.cartWriter = cartWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.mongoTemplate = mongoTemplate;
     }
 
     /* Order
@@ -68,62 +109,91 @@ public class OrderServiceImp implements OrderService {
             throw new IllegalArgumentException("Customer ID required!");
         }
 
-        Cart cart = cartRepository.findByUserID(userID)
-                .orElseThrow(() -> new RuntimeException("Cart not found"));
-
-        Order order = new Order();
-        order.setOrderID(counterServiceImpl.getNextOrderID());
-        order.setCustomerID(userID);
-        order.setCustomerName(user.getFullName());
-        order.setOrderDate(LocalDate.now());
-        order.setStatus(OrderStatus.PENDING);
-
-        final String orderID = order.getOrderID();
-
-        List<OrderDetail> orderDetails = cart.getItems().stream().map(cartItem -> {
-            OrderDetail orderDetail = new OrderDetail();
-            orderDetail.setOrderID(orderID);
-            orderDetail.setProductID(cartItem.getProductID());
-            orderDetail.setProductName(cartItem.getProductName());
-            orderDetail.setQuantity(cartItem.getQuantity());
-
-            Product product = productRepository.findByProductID(cartItem.getProductID())
-                    .orElseThrow(() -> new RuntimeException("Product not found"));
-            orderDetail.setProductPrice(product.getPrice());
-
-            orderDetail.setTotalAmount(cartItem.getTotalAmount());
-            orderDetail.setDiscountedTotalAmount(cartItem.getDiscountedTotalAmount());
-
-            Promotion promotion = promotionRepository.findActivePromotion(LocalDate.now(), LocalDate.now(), List.of(cartItem.getProductID()))
-                    .orElse(null);
-            if (promotion != null) {
-                orderDetail.setDiscountName(promotion.getPromotionName());
-                orderDetail.setDiscountPercentage(promotion.getDiscount());
-            } else {
-                orderDetail.setDiscountName(null);
-                orderDetail.setDiscountPercentage(null);
+        // The cart service writes buffered changes first and holds the cart until the order returns
+        Order order = cartService.checkout(userID, () -> {
+            // Stage 1: reserve the order ID outside the transaction, every attempt reuses it
+            String orderID = counterServiceImpl.getNextOrderID();
+            LocalDate today = LocalDate.now();
+
+            for (int attempt = 1; ; attempt++) {
+                boolean retry = attempt > 1;
+                try {
+                    return transactionTemplate.execute(status -> {
+                        // A commit reported as unknown may have gone through
+                        if (retry) {
+                            Optional<Order> committed = orderRepository.findByOrderID(orderID);
+                            if (committed.isPresent()) {
+                                return committed.get();
+                            }
+                        }
+                        return placeOrder(user, orderID, today);
+                    });
+                } catch (RuntimeException e) {
+                    if (attempt >= checkoutAttempts || !isRetryable(e)) {
+                        throw e;
+                    }
+                }
             }
+        });
 
-            return orderDetail;
-        }).collect(Collectors.toList());
+        return orderMapper.toOrderDTO(order);
+    }
 
-        // Set order details and calculate total amount
-        order.setOrderDetails(orderDetails);
-        order.setTotalAmount(calculateTotalAmount(orderDetails));
-        order.setDiscountedTotalAmount(calculateDiscountedTotalAmount(orderDetails));
 
-        order = orderRepository.save(order);
-        orderDetailRepository.saveAll(orderDetails);
+    // Runs inside the checkout transaction
+    private Order placeOrder(User user, String orderID, LocalDate today) {
+        String userID = user.getUserID();
 
-        // Clear cart
-        cart.getItems().clear();
-        cart.setTotalAmount(0L);
-        cart.setDiscountedTotalAmount(null);
-        cartRepository.save(cart);
+        // Stage 2: read the cart inside the transaction so a concurrent change aborts the checkout
+        Cart cart = cartRepository.findByUserID(userID)
+                .orElseThrow(() -> new RuntimeException("Cart not found"));
+        if (cart.getItems() == null || cart.getItems().isEmpty()) {
+            throw new RuntimeException("Cart is empty");
+        }
 
-        return orderMapper.toOrderDTO(order);
+        // Stage 3: one product query and one promotion lookup for the whole cart
+        List<String> productIDs = cart.getItems().stream().map(CartItem::getProductID).toList();
+        Map<String, Product> products = productRepository.findByProductIDIn(productIDs).stream()
+                .collect(Collectors.toMap(Product::getProductID, Function.identity(), (a, b) -> a));
+        Map<String, Promotion> promotions = promotionIndex.findActive(products.keySet(), today);
+
+        List<OrderDetail> orderDetails = new ArrayList<>(cart.getItems().size());
+        for (CartItem cartItem : cart.getItems()) {
+            Product product = products.get(cartItem.getProductID());
+            if (product == null) {
+                throw new RuntimeException("Product not found");
+            }
+            orderDetails.add(toOrderDetail(orderID, cartItem, product, promotions.get(cartItem.getProductID())));
+        }
+
+        Order newOrder = new Order();
+        newOrder.setOrderID(orderID);
+        newOrder.setCustomerID(userID);
+        newOrder.setCustomerName(user.getFullName());
+        newOrder.setOrderDate(today);
+        newOrder.setStatus(OrderStatus.PENDING);
+        newOrder.setOrderDetails(orderDetails);
+        newOrder.setTotalAmount(calculateTotalAmount(orderDetails));
+        newOrder.setDiscountedTotalAmount(calculateDiscountedTotalAmount(orderDetails));
+
+        // Stage 4: order, details and cart clear commit or roll back together
+        newOrder = orderRepository.insert(newOrder);
+        orderDetailRepository.insert(orderDetails);
+        cartWriter.clear(userID);
+        return newOrder;
     }
 
+    // Mongo labels the transaction errors that are safe to run again: conflicts, elections, unknown commit outcome
+    private static boolean isRetryable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && (mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)
+                    || mongoException.hasErrorLabel(MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL))) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     // Update order
     @Override
@@ -239,6 +309,65 @@ public class OrderServiceImp implements OrderService {
 
 
 
+    // Page through orders on (orderDate desc, _id desc), one extra row tells whether a next page exists
+    @Override
+    public CursorPageDTO<OrderDTO> getOrderPage(String customerID, String status, LocalDate orderDate, String cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+
+        Query query = new Query();
+        if (customerID != null) {
+            query.addCriteria(Criteria.where("customerID").is(customerID));
+        }
+        if (status != null) {
+            try {
+                query.addCriteria(Criteria.where("status").is(OrderStatus.valueOf(status.toUpperCase())));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid order status: " + status);
+            }
+        }
+        if (orderDate != null) {
+            query.addCriteria(Criteria.where("orderDate").is(orderDate));
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            query.addCriteria(afterOrderCursor(cursor));
+        }
+        query.with(Sort.by(Sort.Direction.DESC, "orderDate", "_id"));
+        query.limit(pageSize + 1);
+
+        List<Order> orders = mongoTemplate.find(query, Order.class);
+        String nextCursor = null;
+        if (orders.size() > pageSize) {
+            orders = orders.subList(0, pageSize);
+            Order last = orders.get(pageSize - 1);
+            nextCursor = CursorCodec.encode(ORDER_DATE_CURSOR, last.getId(), last.getOrderDate());
+        }
+        return new CursorPageDTO<>(orders.stream().map(orderMapper::toOrderDTO).toList(), nextCursor, orders.size());
+    }
+
+    // Mongo sorts null first, so in descending order null dates close the listing
+    private Criteria afterOrderCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor);
+        if (!ORDER_DATE_CURSOR.equals(parts[0])) {
+            throw new RuntimeException("Cursor does not match order listing");
+        }
+        Criteria idAfter = Criteria.where("_id").lt(parts[1]);
+        if (parts[2] == null) {
+            return new Criteria().andOperator(Criteria.where("orderDate").is(null), idAfter);
+        }
+
+        LocalDate value;
+        try {
+            value = LocalDate.parse(parts[2]);
+        } catch (DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+        return new Criteria().orOperator(
+                Criteria.where("orderDate").lt(value),
+                Criteria.where("orderDate").is(null),
+                new Criteria().andOperator(Criteria.where("orderDate").is(value), idAfter));
+    }
+
+
     /* OrderDetail
     * */
 
@@ -273,38 +402,53 @@ public class OrderServiceImp implements OrderService {
     // Get order info by order ID
     @Override
     public OrderInfoDTO getOrderInfoByOrderID(String userID, String orderID) {
-        // 1. Find the Order by orderID and userID
-        Order order = orderRepository.findByOrderIDAndCustomerID(orderID, userID)
-                .orElseThrow(() -> new RuntimeException("Order not found"));
+        // 1. One aggregation joins the order with its details, its customer and the ordered products
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("orderID").is(orderID).and("customerID").is(userID)),
+                Aggregation.limit(1),
+                Aggregation.lookup(mongoTemplate.getCollectionName(OrderDetail.class), "orderID", "orderID", "details"),
+                Aggregation.lookup(mongoTemplate.getCollectionName(User.class), "customerID", "userID", "customer"),
+                Aggregation.lookup(mongoTemplate.getCollectionName(Product.class), "details.productID", "productID", "products"));
+        Document result = mongoTemplate.aggregate(aggregation, Order.class, Document.class).getUniqueMappedResult();
+        if (result == null) {
+            throw new RuntimeException("Order not found");
+        }
+        MongoConverter converter = mongoTemplate.getConverter();
+        Order order = converter.read(Order.class, result);
 
-        // 2. Find all OrderDetails by orderID
-        List<OrderDetail> orderDetails = orderDetailRepository.findAllByOrderID(orderID);
+        // 2. OrderDetails of the order
+        List<OrderDetail> orderDetails = result.getList("details", Document.class).stream()
+                .map(detail -> converter.read(OrderDetail.class, detail))
+                .toList();
         if (orderDetails.isEmpty()) {
             throw new RuntimeException("Order details not found");
         }
 
-        // 3. Fetch User info by userID
-        User user = userRepository.findByUserID(userID)
+        // 3. User info
+        User user = result.getList("customer", Document.class).stream()
+                .findFirst()
+                .map(customer -> converter.read(User.class, customer))
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // 4. Fetch Product info for each OrderDetail
+        // 4. Product info for each OrderDetail, promotions come from the in-memory index
+        Map<String, Product> products = result.getList("products", Document.class).stream()
+                .map(product -> converter.read(Product.class, product))
+                .collect(Collectors.toMap(Product::getProductID, Function.identity(), (a, b) -> a));
+        Map<String, Promotion> promotions = promotionIndex.findActive(products.keySet(), LocalDate.now());
+
         List<OrderInfoDTO.OrderDetailItemDTO> orderDetailItems = orderDetails.stream().map(orderDetail -> {
-            // Fetch Product by productID
-            Product product = productRepository.findByProductID(orderDetail.getProductID())
-                    .orElseThrow(() -> new RuntimeException("Product not found"));
+            Product product = products.get(orderDetail.getProductID());
+            if (product == null) {
+                throw new RuntimeException("Product not found");
+            }
 
             OrderInfoDTO.OrderDetailItemDTO item = new OrderInfoDTO.OrderDetailItemDTO();
             item.setProductID(orderDetail.getProductID());
             item.setQuantity(orderDetail.getQuantity());
             item.setProductPrice(orderDetail.getProductPrice());
             item.setName(product.getProductName());
-            Promotion promotion = promotionRepository.findActivePromotion(LocalDate.now(), LocalDate.now(), List.of(orderDetail.getProductID()))
-                    .orElse(null);
-            if (promotion != null) {
-                item.setDiscount(promotion.getDiscount());
-            } else {
-                item.setDiscount(null);
-            }
+            Promotion promotion = promotions.get(orderDetail.getProductID());
+            item.setDiscount(promotion != null ? promotion.getDiscount() : null);
             item.setImage(product.getImage_url());
             return item;
         }).collect(Collectors.toList());
@@ -378,6 +522,25 @@ public class OrderServiceImp implements OrderService {
                 .sum();
     }
 
+    /* Price one cart line at the current product price and promotion */
+    private OrderDetail toOrderDetail(String orderID, CartItem cartItem, Product product, Promotion promotion) {
+        OrderDetail orderDetail = new OrderDetail();
+        orderDetail.setOrderID(orderID);
+        orderDetail.setProductID(cartItem.getProductID());
+        orderDetail.setProductName(product.getProductName());
+        orderDetail.setProductPrice(product.getPrice());
+        orderDetail.setQuantity(cartItem.getQuantity());
+        orderDetail.setTotalAmount(product.getPrice() * cartItem.getQuantity());
+
+        if (promotion != null) {
+            long discountedPrice = product.getPrice() - (product.getPrice() * promotion.getDiscount() / 100);
+            orderDetail.setDiscountName(promotion.getPromotionName());
+            orderDetail.setDiscountPercentage(promotion.getDiscount());
+            orderDetail.setDiscountedTotalAmount(discountedPrice * cartItem.getQuantity());
+        }
+        return orderDetail;
+    }
+
     /* Calculate Discounted Total Amount */
     private Long calculateDiscountedTotalAmount(List<OrderDetail> orderDetails) {
         return orderDetails.stream()
@@ -2,18 +2,31 @@ package com.glowcorner.backend.service.implement;
 
 
 import com.glowcorner.backend.entity.mongoDB.Product;
-import com.glowcorner.backend.entity.mongoDB.Promotion;
 import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.ProductSort;
 import com.glowcorner.backend.enums.SkinType;
 import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.model.DTO.CursorPageDTO;
+import com.glowcorner.backend.model.DTO.FacetedProductsDTO;
 import com.glowcorner.backend.model.DTO.ProductDTO;
+import com.glowcorner.backend.model.DTO.ProductSummaryDTO;
 import com.glowcorner.backend.model.DTO.request.Product.CreateProductRequest;
+import com.glowcorner.backend.model.DTO.request.Product.ProductFilterRequest;
 import com.glowcorner.backend.model.mapper.CreateMapper.Product.CreateProductRequestMapper;
 import com.glowcorner.backend.model.mapper.Product.ProductMapper;
 import com.glowcorner.backend.repository.ProductRepository;
-import com.glowcorner.backend.repository.PromotionRepository;
+import com.glowcorner.backend.service.implement.catalog.AutocompleteIndex;
+import com.glowcorner.backend.service.implement.catalog.CatalogFacetCounter;
+import com.glowcorner.backend.service.implement.catalog.CatalogSnapshot;
+import com.glowcorner.backend.service.implement.catalog.CatalogSnapshotCache;
+import com.glowcorner.backend.service.implement.catalog.CatalogVersion;
+import com.glowcorner.backend.service.implement.catalog.ProductPriceCalculator;
+import com.glowcorner.backend.service.implement.catalog.ProductSearchIndex;
 import com.glowcorner.backend.service.interfaces.ProductService;
+import com.glowcorner.backend.utils.CursorCodec;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.MongoTemplate;
@@ -21,7 +34,12 @@ import org.springframework.stereotype.Service;
 
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -38,18 +56,53 @@ public class ProductServiceImp implements ProductService {
    private final ProductMapper productMapper;
 
 
-   private final PromotionRepository promotionRepository;
+   private final ProductPriceCalculator productPriceCalculator;
+
+
+   private final CatalogSnapshotCache catalogSnapshotCache;
+
+
+   private final ProductSearchIndex productSearchIndex;
+
+
+   private final AutocompleteIndex autocompleteIndex;
+
+
+   private final CatalogFacetCounter catalogFacetCounter;
+
+
+   private final CatalogVersion catalogVersion;
 
 
    @Autowired
    private MongoTemplate mongoTemplate;
 
 
-   public ProductServiceImp(ProductRepository productRepository, CreateProductRequestMapper createProductRequestMapper, ProductMapper productMapper, PromotionRepository promotionRepository) {
+   private static final String RELEVANCE_CURSOR = "RELEVANCE";
+
+
+   // Fields read for list summaries, the sort fields are among them
+   private static final String[] SUMMARY_FIELDS = {"productID", "productName", "price", "discountedPrice", "rating", "image_url"};
+
+
+   @Value("${catalog.page.default-size:20}")
+   private int defaultPageSize;
+
+
+   @Value("${catalog.page.max-size:100}")
+   private int maxPageSize;
+
+
+   public ProductServiceImp(ProductRepository productRepository, CreateProductRequestMapper createProductRequestMapper, ProductMapper productMapper, ProductPriceCalculator productPriceCalculator, CatalogSnapshotCache catalogSnapshotCache, ProductSearchIndex productSearchIndex, AutocompleteIndex autocompleteIndex, CatalogFacetCounter catalogFacetCounter, CatalogVersion catalogVersion) {
        this.productRepository = productRepository;
        this.createProductRequestMapper = createProductRequestMapper;
        this.productMapper = productMapper;
-       this.promotionRepository = promotionRepository;
+       this.productPriceCalculator = productPriceCalculator;
+       this.catalogSnapshotCache = catalogSnapshotCache;
+       this.productSearchIndex = productSearchIndex;
+       this.autocompleteIndex = autocompleteIndex;
+       this.catalogFacetCounter = catalogFacetCounter;
+       this.catalogVersion = catalogVersion;
    }
 
 
@@ -57,13 +110,7 @@ public class ProductServiceImp implements ProductService {
    @Override
    public List<ProductDTO> getAllProducts() {
        List<Product> products = productRepository.findAll();
-       return products.stream()
-               .map(product -> {
-                   ProductDTO productDTO = productMapper.toDTO(product);
-                   calculateDiscountedPrice(productDTO);
-                   return productDTO;
-               })
-               .collect(Collectors.toList());
+       return toPricedDTOs(products);
    }
 
 
@@ -72,9 +119,7 @@ public class ProductServiceImp implements ProductService {
    public ProductDTO getProductById(String productId) {
        Product product = productRepository.findByProductID(productId)
                .orElseThrow(() -> new RuntimeException("Product not found"));
-       ProductDTO productDTO = productMapper.toDTO(product);
-       calculateDiscountedPrice(productDTO);
-       return productDTO;
+       return toPricedDTO(product);
    }
 
 
@@ -82,13 +127,7 @@ public class ProductServiceImp implements ProductService {
    @Override
    public List<ProductDTO> getProductsBySkinType(SkinType skinType) {
        List<Product> products = productRepository.findBySkinTypesIn(skinType);
-       return products.stream()
-               .map(product -> {
-                   ProductDTO productDTO = productMapper.toDTO(product);
-                   calculateDiscountedPrice(productDTO);
-                   return productDTO;
-               })
-               .collect(Collectors.toList());
+       return toPricedDTOs(products);
    }
 
 
@@ -96,27 +135,15 @@ public class ProductServiceImp implements ProductService {
    @Override
    public List<ProductDTO> getProductsByCategory(Category category) {
        List<Product> products = productRepository.findByCategory(category);
-       return products.stream()
-               .map(product -> {
-                   ProductDTO productDTO = productMapper.toDTO(product);
-                   calculateDiscountedPrice(productDTO);
-                   return productDTO;
-               })
-               .collect(Collectors.toList());
+       return toPricedDTOs(products);
    }
 
 
    // Get products by product name
    @Override
    public List<ProductDTO> getProductsByProductName(String productName) {
-       List<Product> products = productRepository.findByProductNameContainingIgnoreCase(productName);
-       return products.stream()
-               .map(product -> {
-                   ProductDTO productDTO = productMapper.toDTO(product);
-                   calculateDiscountedPrice(productDTO);
-                   return productDTO;
-               })
-               .collect(Collectors.toList());
+       List<Product> products = findRanked(productSearchIndex.search(productName, false));
+       return toPricedDTOs(products);
    }
 
 
@@ -158,13 +185,7 @@ public class ProductServiceImp implements ProductService {
 
        // Thực hiện truy vấn
        List<Product> products = mongoTemplate.find(query, Product.class);
-       return products.stream()
-               .map(product -> {
-                   ProductDTO productDTO = productMapper.toDTO(product);
-                   calculateDiscountedPrice(productDTO);
-                   return productDTO;
-               })
-               .collect(Collectors.toList());
+       return toPricedDTOs(products);
    }
 
 
@@ -172,7 +193,11 @@ public class ProductServiceImp implements ProductService {
    @Override
    public ProductDTO createProduct(CreateProductRequest request) {
        Product product = createProductRequestMapper.fromCreateRequest(request);
+       product.setDiscountedPrice(productPriceCalculator.discountedPrice(product, LocalDate.now()));
        product = productRepository.save(product);
+       productSearchIndex.index(product);
+       autocompleteIndex.putProduct(product);
+       catalogSnapshotCache.productChanged(product, catalogVersion.bump());
        return productMapper.toDTO(product);
    }
 
@@ -196,8 +221,13 @@ public class ProductServiceImp implements ProductService {
            if (productDTO.getImage_url() != null) existingProduct.setImage_url(productDTO.getImage_url());
 
 
+           existingProduct.setDiscountedPrice(productPriceCalculator.discountedPrice(existingProduct, LocalDate.now()));
+
            // Save update
            Product updatedProduct = productRepository.save(existingProduct);
+           productSearchIndex.index(updatedProduct);
+           autocompleteIndex.putProduct(updatedProduct);
+           catalogSnapshotCache.productChanged(updatedProduct, catalogVersion.bump());
 
 
            // Convert updated product entity to DTO
@@ -215,6 +245,9 @@ public class ProductServiceImp implements ProductService {
                .orElseThrow(() -> new RuntimeException("Product not found"));
        existingProduct.setStatus(ProductStatus.DISABLE);
        productRepository.save(existingProduct);
+       productSearchIndex.index(existingProduct);
+       autocompleteIndex.putProduct(existingProduct);
+       catalogSnapshotCache.productChanged(existingProduct, catalogVersion.bump());
    }
 
 
@@ -223,76 +256,60 @@ public class ProductServiceImp implements ProductService {
    // Get all active products
    @Override
    public List<ProductDTO> getAllActiveProducts() {
-       List<Product> products = productRepository.findAll()
-               .stream()
-               .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
-               .toList();
-       return products.stream()
-               .map(product -> {
-                   ProductDTO productDTO = productMapper.toDTO(product);
-                   calculateDiscountedPrice(productDTO);
-                   return productDTO;
-               })
-               .collect(Collectors.toList());
+       if (catalogSnapshotCache.isEnabled()) {
+           return catalogSnapshotCache.get().getProducts();
+       }
+       List<Product> products = productRepository.findByStatus(ProductStatus.ACTIVE);
+       return toPricedDTOs(products);
    }
 
     // Get active product by ID
     @Override
     public ProductDTO getActiveProductById(String productId) {
-        Product product = productRepository.findByProductID(productId)
-                .filter(p -> p.getStatus() == ProductStatus.ACTIVE)
+        if (catalogSnapshotCache.isEnabled()) {
+            return catalogSnapshotCache.get().getProduct(productId)
+                    .orElseThrow(() -> new RuntimeException("Product not found or not active"));
+        }
+        Product product = productRepository.findByProductIDAndStatus(productId, ProductStatus.ACTIVE)
                 .orElseThrow(() -> new RuntimeException("Product not found or not active"));
-        ProductDTO productDTO = productMapper.toDTO(product);
-        calculateDiscountedPrice(productDTO);
-        return productDTO;
+        return toPricedDTO(product);
     }
 
     // Get active products by skin types
     @Override
     public List<ProductDTO> getActiveProductsBySkinType(SkinType skinType) {
-        List<Product> products = productRepository.findBySkinTypesIn(skinType)
-                .stream()
-                .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
-                .toList();
-        return products.stream()
-                .map(product -> {
-                    ProductDTO productDTO = productMapper.toDTO(product);
-                    calculateDiscountedPrice(productDTO);
-                    return productDTO;
-                })
-                .collect(Collectors.toList());
+        if (catalogSnapshotCache.isEnabled()) {
+            return catalogSnapshotCache.get().getBySkinType(skinType);
+        }
+        List<Product> products = productRepository.findByStatusAndSkinTypes(ProductStatus.ACTIVE, skinType);
+        return toPricedDTOs(products);
     }
 
     // Get active products by category
     @Override
     public List<ProductDTO> getActiveProductsByCategory(Category category) {
-        List<Product> products = productRepository.findByCategory(category)
-                .stream()
-                .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
-                .toList();
-        return products.stream()
-                .map(product -> {
-                    ProductDTO productDTO = productMapper.toDTO(product);
-                    calculateDiscountedPrice(productDTO);
-                    return productDTO;
-                })
-                .collect(Collectors.toList());
+        if (catalogSnapshotCache.isEnabled()) {
+            return catalogSnapshotCache.get().getByCategory(category);
+        }
+        List<Product> products = productRepository.findByStatusAndCategory(ProductStatus.ACTIVE, category);
+        return toPricedDTOs(products);
     }
 
     // Get active products by product name
     @Override
     public List<ProductDTO> getActiveProductsByProductName(String productName) {
-        List<Product> products = productRepository.findByProductNameContainingIgnoreCase(productName)
-                .stream()
+        List<String> productIDs = productSearchIndex.search(productName, true);
+        if (catalogSnapshotCache.isEnabled()) {
+            CatalogSnapshot snapshot = catalogSnapshotCache.get();
+            return productIDs.stream()
+                    .map(snapshot::getProduct)
+                    .flatMap(Optional::stream)
+                    .toList();
+        }
+        List<Product> products = findRanked(productIDs).stream()
                 .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
                 .toList();
-        return products.stream()
-                .map(product -> {
-                    ProductDTO productDTO = productMapper.toDTO(product);
-                    calculateDiscountedPrice(productDTO);
-                    return productDTO;
-                })
-                .collect(Collectors.toList());
+        return toPricedDTOs(products);
     }
 
     // Get active products by filter
@@ -303,7 +320,13 @@ public class ProductServiceImp implements ProductService {
             Long minPrice,
             Long maxPrice
     ) {
-        Query query = new Query();
+        if (catalogSnapshotCache.isEnabled()) {
+            ProductFilterRequest filter = new ProductFilterRequest(skinTypes, categories, minPrice, maxPrice, null);
+            return catalogSnapshotCache.get().getProducts(product -> matchesFilter(product, filter, null));
+        }
+
+        // Status first, matching the (status, ...) index prefix
+        Query query = new Query(Criteria.where("status").is(ProductStatus.ACTIVE));
 
         // Filter by skinType (if any)
         if (skinTypes != null && !skinTypes.isEmpty()) {
@@ -327,31 +350,276 @@ public class ProductServiceImp implements ProductService {
             query.addCriteria(priceCriteria);
         }
 
-        // Filter by status ACTIVE
-        query.addCriteria(Criteria.where("status").is(ProductStatus.ACTIVE));
-
         // Execute query
         List<Product> products = mongoTemplate.find(query, Product.class);
-        return products.stream()
-                .map(product -> {
-                    ProductDTO productDTO = productMapper.toDTO(product);
-                    calculateDiscountedPrice(productDTO);
-                    return productDTO;
-                })
-                .collect(Collectors.toList());
+        return toPricedDTOs(products);
     }
 
+    // Get a keyset page of products
+    @Override
+    public CursorPageDTO<ProductDTO> getProductPage(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size) {
+        if (sort == null && isNameSearch(filter)) {
+            return findRankedPage(productSearchIndex.search(filter.getProductName(), false), false, cursor, size);
+        }
+        return findProductPage(filterQuery(new Query(), filter), sort, cursor, size);
+    }
 
-   // Calculator
-   private void calculateDiscountedPrice(ProductDTO productDTO) {
-       LocalDate now = LocalDate.now();
-       Promotion activePromotion = promotionRepository.findActivePromotion(
-               now, now, List.of(productDTO.getProductID()))
-               .orElse(null);
-       if (activePromotion != null) {
-           productDTO.setDiscountedPrice(productDTO.getPrice() - (productDTO.getPrice() * activePromotion.getDiscount() / 100));
+    // Get a keyset page of active products
+    @Override
+    public CursorPageDTO<ProductDTO> getActiveProductPage(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size) {
+        if (sort == null && isNameSearch(filter)) {
+            return findRankedPage(productSearchIndex.search(filter.getProductName(), true), true, cursor, size);
+        }
+        Query query = new Query(Criteria.where("status").is(ProductStatus.ACTIVE));
+        return findProductPage(filterQuery(query, filter), sort, cursor, size);
+    }
+
+    // Get product summaries, reading only the summary fields
+    @Override
+    public List<ProductSummaryDTO> getProductSummaries(ProductFilterRequest filter) {
+        Query query = filterQuery(new Query(), filter);
+        query.fields().include(SUMMARY_FIELDS);
+        return toSummaries(toPricedDTOs(mongoTemplate.find(query, Product.class)));
+    }
+
+    // Get a keyset page of product summaries
+    @Override
+    public CursorPageDTO<ProductSummaryDTO> getProductSummaryPage(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size) {
+        Query query = filterQuery(new Query(), filter);
+        query.fields().include(SUMMARY_FIELDS);
+        return toSummaryPage(findProductPage(query, sort, cursor, size));
+    }
+
+    // Get active product summaries
+    @Override
+    public List<ProductSummaryDTO> getActiveProductSummaries(ProductFilterRequest filter) {
+        if (catalogSnapshotCache.isEnabled()) {
+            Set<String> nameMatches = filter != null && filter.getProductName() != null && !filter.getProductName().isBlank()
+                    ? new HashSet<>(productSearchIndex.search(filter.getProductName(), true))
+                    : null;
+            return toSummaries(catalogSnapshotCache.get().getProducts(product -> matchesFilter(product, filter, nameMatches)));
+        }
+        Query query = filterQuery(new Query(Criteria.where("status").is(ProductStatus.ACTIVE)), filter);
+        query.fields().include(SUMMARY_FIELDS);
+        return toSummaries(toPricedDTOs(mongoTemplate.find(query, Product.class)));
+    }
+
+    // Get a keyset page of active product summaries
+    @Override
+    public CursorPageDTO<ProductSummaryDTO> getActiveProductSummaryPage(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size) {
+        Query query = filterQuery(new Query(Criteria.where("status").is(ProductStatus.ACTIVE)), filter);
+        query.fields().include(SUMMARY_FIELDS);
+        return toSummaryPage(findProductPage(query, sort, cursor, size));
+    }
+
+    // Get a page of active products with skin type, category and price facet counts
+    @Override
+    public FacetedProductsDTO getActiveProductFacets(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size) {
+        ProductFilterRequest criteria = filter != null ? filter : new ProductFilterRequest();
+        Set<String> nameMatches = criteria.getProductName() != null && !criteria.getProductName().isBlank()
+                ? new HashSet<>(productSearchIndex.search(criteria.getProductName(), true))
+                : null;
+        List<ProductDTO> catalog = catalogSnapshotCache.isEnabled()
+                ? catalogSnapshotCache.get().getProducts()
+                : toPricedDTOs(productRepository.findByStatus(ProductStatus.ACTIVE));
+
+        FacetedProductsDTO result = catalogFacetCounter.count(catalog, criteria, nameMatches);
+        result.setPage(getActiveProductPage(criteria, sort, cursor, size));
+        return result;
+    }
+
+    // ETag of the customer catalog, null when the snapshot is disabled
+    @Override
+    public String getActiveCatalogETag() {
+        return catalogSnapshotCache.isEnabled() ? catalogSnapshotCache.getETag() : null;
+    }
+
+
+   // Paging
+
+   private Query filterQuery(Query query, ProductFilterRequest filter) {
+       if (filter == null) {
+           return query;
+       }
+       if (filter.getSkinTypes() != null && !filter.getSkinTypes().isEmpty()) {
+           query.addCriteria(Criteria.where("skinTypes").in(filter.getSkinTypes()));
+       }
+       if (filter.getCategories() != null && !filter.getCategories().isEmpty()) {
+           query.addCriteria(Criteria.where("category").in(filter.getCategories()));
+       }
+       if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+           Criteria priceCriteria = Criteria.where("price");
+           if (filter.getMinPrice() != null) {
+               priceCriteria.gte(filter.getMinPrice());
+           }
+           if (filter.getMaxPrice() != null) {
+               priceCriteria.lte(filter.getMaxPrice());
+           }
+           query.addCriteria(priceCriteria);
+       }
+       if (filter.getProductName() != null && !filter.getProductName().isBlank()) {
+           query.addCriteria(Criteria.where("productID").in(productSearchIndex.search(filter.getProductName(), false)));
+       }
+       return query;
+   }
+
+   // Range query on (sort field, _id) after the cursor, one extra row tells whether a next page exists
+   private CursorPageDTO<ProductDTO> findProductPage(Query query, ProductSort sort, String cursor, Integer size) {
+       ProductSort order = sort != null ? sort : ProductSort.ID;
+       int pageSize = pageSize(size);
+
+       if (cursor != null && !cursor.isBlank()) {
+           query.addCriteria(afterCursor(order, cursor));
+       }
+       query.with(order == ProductSort.ID
+               ? Sort.by(order.getDirection(), "_id")
+               : Sort.by(order.getDirection(), order.getField(), "_id"));
+       query.limit(pageSize + 1);
+
+       List<Product> products = mongoTemplate.find(query, Product.class);
+       String nextCursor = null;
+       if (products.size() > pageSize) {
+           products = products.subList(0, pageSize);
+           Product last = products.get(pageSize - 1);
+           nextCursor = CursorCodec.encode(order.name(), last.getId(), sortValue(order, last));
+       }
+       return new CursorPageDTO<>(toPricedDTOs(products), nextCursor, products.size());
+   }
+
+   // Name-only searches page through the search ranking, the cursor holds the offset
+   private CursorPageDTO<ProductDTO> findRankedPage(List<String> productIDs, boolean activeOnly, String cursor, Integer size) {
+       int pageSize = pageSize(size);
+       int offset = 0;
+       if (cursor != null && !cursor.isBlank()) {
+           String[] parts = CursorCodec.decode(cursor);
+           if (!RELEVANCE_CURSOR.equals(parts[0])) {
+               throw new RuntimeException("Cursor does not match sort " + RELEVANCE_CURSOR);
+           }
+           try {
+               offset = Integer.parseInt(parts[1]);
+           } catch (NumberFormatException e) {
+               throw new RuntimeException("Invalid cursor");
+           }
+       }
+
+       int end = Math.min(offset + pageSize, productIDs.size());
+       List<String> pageIDs = offset < end ? productIDs.subList(offset, end) : List.of();
+       List<ProductDTO> items;
+       if (activeOnly && catalogSnapshotCache.isEnabled()) {
+           CatalogSnapshot snapshot = catalogSnapshotCache.get();
+           items = pageIDs.stream().map(snapshot::getProduct).flatMap(Optional::stream).toList();
        } else {
-           productDTO.setDiscountedPrice(productDTO.getPrice());
+           items = toPricedDTOs(findRanked(pageIDs));
+       }
+       String nextCursor = end < productIDs.size() ? CursorCodec.encode(RELEVANCE_CURSOR, String.valueOf(end), null) : null;
+       return new CursorPageDTO<>(items, nextCursor, items.size());
+   }
+
+   // Products in the given ID order
+   private List<Product> findRanked(List<String> productIDs) {
+       if (productIDs.isEmpty()) {
+           return List.of();
+       }
+       Map<String, Product> byID = productRepository.findByProductIDIn(productIDs).stream()
+               .collect(Collectors.toMap(Product::getProductID, Function.identity(), (a, b) -> a));
+       return productIDs.stream()
+               .map(byID::get)
+               .filter(product -> product != null)
+               .toList();
+   }
+
+   // In-memory equivalent of filterQuery for the catalog snapshot
+   private boolean matchesFilter(ProductDTO product, ProductFilterRequest filter, Set<String> nameMatches) {
+       if (filter == null) {
+           return true;
        }
+       List<SkinType> skinTypes = filter.getSkinTypes();
+       List<Category> categories = filter.getCategories();
+       return (skinTypes == null || skinTypes.isEmpty()
+                       || (product.getSkinTypes() != null && product.getSkinTypes().stream().anyMatch(skinTypes::contains)))
+               && (categories == null || categories.isEmpty() || categories.contains(product.getCategory()))
+               && (filter.getMinPrice() == null || (product.getPrice() != null && product.getPrice() >= filter.getMinPrice()))
+               && (filter.getMaxPrice() == null || (product.getPrice() != null && product.getPrice() <= filter.getMaxPrice()))
+               && (nameMatches == null || nameMatches.contains(product.getProductID()));
+   }
+
+   private List<ProductSummaryDTO> toSummaries(List<ProductDTO> products) {
+       return products.stream().map(productMapper::toSummaryDTO).toList();
+   }
+
+   private CursorPageDTO<ProductSummaryDTO> toSummaryPage(CursorPageDTO<ProductDTO> page) {
+       return new CursorPageDTO<>(toSummaries(page.getItems()), page.getNextCursor(), page.getSize());
+   }
+
+   private boolean isNameSearch(ProductFilterRequest filter) {
+       return filter != null
+               && filter.getProductName() != null && !filter.getProductName().isBlank()
+               && (filter.getSkinTypes() == null || filter.getSkinTypes().isEmpty())
+               && (filter.getCategories() == null || filter.getCategories().isEmpty())
+               && filter.getMinPrice() == null && filter.getMaxPrice() == null;
+   }
+
+   private int pageSize(Integer size) {
+       return size == null || size <= 0 ? defaultPageSize : Math.min(size, maxPageSize);
+   }
+
+   private Criteria afterCursor(ProductSort sort, String cursor) {
+       String[] parts = CursorCodec.decode(cursor);
+       if (!sort.name().equals(parts[0])) {
+           throw new RuntimeException("Cursor does not match sort " + sort);
+       }
+       boolean ascending = sort.getDirection().isAscending();
+       Criteria idAfter = ascending ? Criteria.where("_id").gt(parts[1]) : Criteria.where("_id").lt(parts[1]);
+       if (sort == ProductSort.ID) {
+           return idAfter;
+       }
+
+       // Mongo sorts null first, so null values open an ascending page and close a descending one
+       String field = sort.getField();
+       Object value = parseSortValue(sort, parts[2]);
+       if (value == null) {
+           Criteria tie = new Criteria().andOperator(Criteria.where(field).is(null), idAfter);
+           return ascending ? new Criteria().orOperator(Criteria.where(field).ne(null), tie) : tie;
+       }
+       Criteria tie = new Criteria().andOperator(Criteria.where(field).is(value), idAfter);
+       return ascending
+               ? new Criteria().orOperator(Criteria.where(field).gt(value), tie)
+               : new Criteria().orOperator(Criteria.where(field).lt(value), Criteria.where(field).is(null), tie);
+   }
+
+   private Object sortValue(ProductSort sort, Product product) {
+       return switch (sort) {
+           case PRICE -> product.getPrice();
+           case EFFECTIVE_PRICE -> product.getDiscountedPrice();
+           case RATING -> product.getRating();
+           case NAME -> product.getProductName();
+           case ID -> null;
+       };
+   }
+
+   private Object parseSortValue(ProductSort sort, String value) {
+       if (value == null) {
+           return null;
+       }
+       try {
+           return switch (sort) {
+               case PRICE, EFFECTIVE_PRICE -> Long.valueOf(value);
+               case RATING -> Float.valueOf(value);
+               case NAME -> value;
+               case ID -> null;
+           };
+       } catch (NumberFormatException e) {
+           throw new RuntimeException("Invalid cursor");
+       }
+   }
+
+
+   // Calculator
+   private ProductDTO toPricedDTO(Product product) {
+       return productPriceCalculator.toPricedDTO(product, LocalDate.now());
+   }
+
+   private List<ProductDTO> toPricedDTOs(List<Product> products) {
+       return productPriceCalculator.toPricedDTOs(products, LocalDate.now());
    }
 }
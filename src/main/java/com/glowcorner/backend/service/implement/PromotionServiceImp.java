@@ -5,11 +5,18 @@ import com.glowcorner.backend.model.DTO.PromotionDTO;
 import com.glowcorner.backend.model.DTO.request.Promotion.CreatePromotionRequest;
 import com.glowcorner.backend.model.mapper.PromotionMapper;
 import com.glowcorner.backend.repository.PromotionRepository;
+import com.glowcorner.backend.service.implement.catalog.CatalogSnapshotCache;
+import com.glowcorner.backend.service.implement.catalog.CatalogVersion;
+import com.glowcorner.backend.service.implement.promotion.PromotionActivationJob;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
 import com.glowcorner.backend.service.interfaces.PromotionService;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class PromotionServiceImp implements PromotionService {
@@ -17,11 +24,19 @@ public class PromotionServiceImp implements PromotionService {
     private final PromotionMapper promotionMapper;
     private final PromotionRepository promotionRepository;
     private final CounterServiceImpl counterServiceImpl;
+    private final PromotionIndex promotionIndex;
+    private final CatalogSnapshotCache catalogSnapshotCache;
+    private final CatalogVersion catalogVersion;
+    private final PromotionActivationJob promotionActivationJob;
 
-    public PromotionServiceImp(PromotionMapper promotionMapper, PromotionRepository promotionRepository, CounterServiceImpl counterServiceImpl) {
+    public PromotionServiceImp(PromotionMapper promotionMapper, PromotionRepository promotionRepository, CounterServiceImpl counterServiceImpl, PromotionIndex promotionIndex, CatalogSnapshotCache catalogSnapshotCache, PromotionActivationJob promotionActivationJob, CatalogVersion catalogVersion) {
         this.promotionMapper = promotionMapper;
         this.promotionRepository = promotionRepository;
         this.counterServiceImpl = counterServiceImpl;
+        this.promotionIndex = promotionIndex;
+        this.catalogSnapshotCache = catalogSnapshotCache;
+        this.catalogVersion = catalogVersion;
+        this.promotionActivationJob = promotionActivationJob;
     }
 
     @Override
@@ -57,8 +72,7 @@ public class PromotionServiceImp implements PromotionService {
 
     @Override
     public List<PromotionDTO> getActivePromotion(){
-        LocalDate now = LocalDate.now();
-        List<Promotion> promotion = promotionRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqual(now, now);
+        List<Promotion> promotion = promotionIndex.findActiveOn(LocalDate.now());
         return promotion.stream()
                 .map(promotionMapper::toDTO)
                 .toList();
@@ -66,7 +80,7 @@ public class PromotionServiceImp implements PromotionService {
 
     @Override
     public List<PromotionDTO> getActivePromotionByDate(LocalDate date){
-        List<Promotion> promotion = promotionRepository.findByStartDateLessThanEqualAndEndDateGreaterThanEqual(date, date);
+        List<Promotion> promotion = promotionIndex.findActiveOn(date);
         return promotion.stream()
                 .map(promotionMapper::toDTO)
                 .toList();
@@ -75,7 +89,10 @@ public class PromotionServiceImp implements PromotionService {
     @Override
     public PromotionDTO getActivePromotionByProductIDs(List<String> productIDs) {
         LocalDate now = LocalDate.now();
-        Promotion promotions = promotionRepository.findActivePromotion(now, now, productIDs)
+        Promotion promotions = productIDs.stream()
+                .map(productID -> promotionIndex.findActive(productID, now))
+                .flatMap(Optional::stream)
+                .findFirst()
                 .orElseThrow(() -> new RuntimeException("No active promotion found"));
         return promotionMapper.toDTO(promotions);
     }
@@ -100,6 +117,10 @@ public class PromotionServiceImp implements PromotionService {
         }
 
         promotion = promotionRepository.save(promotion);
+        promotionIndex.put(promotion);
+        long version = catalogVersion.bump();
+        promotionActivationJob.reconcile(promotion.getProductIDs());
+        catalogSnapshotCache.promotionsChanged(promotion.getProductIDs(), version);
 
         return promotionMapper.toDTO(promotion);
     }
@@ -119,6 +140,10 @@ public class PromotionServiceImp implements PromotionService {
                 throw new RuntimeException("A promotion already exists within the given date range for the same product.");
             }
 
+            // Products dropped from the promotion need their price restored too
+            Set<String> affectedProductIDs = new HashSet<>();
+            if (existingPromotion.getProductIDs() != null) affectedProductIDs.addAll(existingPromotion.getProductIDs());
+
             if (promotionDTO.getPromotionName() != null) existingPromotion.setPromotionName(promotionDTO.getPromotionName());
             if (promotionDTO.getDiscount() != null) existingPromotion.setDiscount(promotionDTO.getDiscount());
             if (promotionDTO.getStartDate() != null) existingPromotion.setStartDate(promotionDTO.getStartDate());
@@ -126,6 +151,11 @@ public class PromotionServiceImp implements PromotionService {
             if (promotionDTO.getProductIDs() != null) existingPromotion.setProductIDs(promotionDTO.getProductIDs());
 
             Promotion updatedPromotion = promotionRepository.save(existingPromotion);
+            promotionIndex.put(updatedPromotion);
+            long version = catalogVersion.bump();
+            if (updatedPromotion.getProductIDs() != null) affectedProductIDs.addAll(updatedPromotion.getProductIDs());
+            promotionActivationJob.reconcile(affectedProductIDs);
+            catalogSnapshotCache.promotionsChanged(affectedProductIDs, version);
             return promotionMapper.toDTO(updatedPromotion);
         } catch (Exception e) {
             throw new RuntimeException(e.getMessage(), e);
@@ -135,6 +165,13 @@ public class PromotionServiceImp implements PromotionService {
 
     @Override
     public void deletePromotion(String id) {
+        List<String> productIDs = promotionRepository.findPromotionByPromotionID(id)
+                .map(Promotion::getProductIDs)
+                .orElse(List.of());
         promotionRepository.deletePromotionByPromotionID(id);
+        promotionIndex.remove(id);
+        long version = catalogVersion.bump();
+        promotionActivationJob.reconcile(productIDs);
+        catalogSnapshotCache.promotionsChanged(productIDs, version);
     }
 }
\ No newline at end of file
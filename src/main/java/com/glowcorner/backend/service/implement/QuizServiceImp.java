@@ -12,6 +12,7 @@ import com.glowcorner.backend.repository.QuizRepository;
 import com.glowcorner.backend.service.interfaces.QuizService;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,21 +38,9 @@ public class QuizServiceImp implements QuizService {
         Quiz quiz = createQuizRequestMapper.fromCreateRequest(request);
         quiz = quizRepository.save(quiz);
 
-        final String questionID = quiz.getQuestionId();
-
-        // Save answer options
-        if (request.getAnswerOptionRequests() != null) {
-            List<AnswerOption> answerOptions = request.getAnswerOptionRequests().stream()
-                    .map(optionDTO -> {
-                        AnswerOption option = new AnswerOption();
-                        option.setOptionID(counterService.getNextOptionID());
-                        option.setQuestionId(questionID);
-                        option.setSkinType(optionDTO.getSkinType());
-                        option.setOptionText(optionDTO.getOptionText());
-                        return option;
-                    }).collect(Collectors.toList());
-            answerOptionRepository.saveAll(answerOptions);
-            quiz.setOptions(answerOptions);
+        // Save answer options, with the IDs reserved by the mapper
+        if (quiz.getOptions() != null) {
+            answerOptionRepository.saveAll(quiz.getOptions());
         }
         quiz.setStatus(QuizStatus.ACTIVE);
 
@@ -70,6 +59,12 @@ public class QuizServiceImp implements QuizService {
 
             // Update answer options
             if (quizDTO.getAnswerOptionDTOS() != null) {
+                // One counter update for the IDs of all new options
+                int newOptions = (int) quizDTO.getAnswerOptionDTOS().stream()
+                        .filter(optionDTO -> optionDTO.getOptionID() == null)
+                        .count();
+                Iterator<String> optionIDs = counterService.reserveIDs("optionID", newOptions);
+
                 List<AnswerOption> updatedOptions = quizDTO.getAnswerOptionDTOS().stream()
                         .map(optionDTO -> {
                             AnswerOption option;
@@ -78,7 +73,7 @@ public class QuizServiceImp implements QuizService {
                                         .orElseThrow(() -> new RuntimeException("Answer option not found"));
                             } else {
                                 option = new AnswerOption();
-                                option.setOptionID(counterService.getNextOptionID());
+                                option.setOptionID(optionIDs.next());
                             }
 
                             option.setQuestionId(questionID);
@@ -0,0 +1,430 @@
+package com.glowcorner.backend.service.implement;
+
+import com.glowcorner.backend.entity.mongoDB.Cart;
+import com.glowcorner.backend.entity.mongoDB.CartItem;
+import com.glowcorner.backend.entity.mongoDB.SkincareRoutine.SkinCareRoutine;
+import com.glowcorner.backend.model.DTO.Cart.CartDTO;
+import com.glowcorner.backend.model.DTO.Cart.CartItemDTO;
+import com.glowcorner.backend.model.DTO.request.Cart.AddCartItemRequest;
+import com.glowcorner.backend.repository.CartRepository;
+import com.glowcorner.backend.repository.SkinCareRoutineRepository;
+import com.glowcorner.backend.service.implement.cart.CartPricingEngine;
+import com.glowcorner.backend.service.implement.cart.CartWriter;
+import com.glowcorner.backend.service.interfaces.CartService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Write-behind cart service, enabled with cart.session.enabled=true.
+ * Active carts live in a bounded LRU store keyed by userID; reads are served from memory and
+ * mutations only mark the cart dirty, so a burst of +/- clicks becomes one Mongo write.
+ * Dirty carts are flushed every cart.session.flush-interval-ms (the durability window),
+ * when evicted, before checkout and on shutdown. Checkout holds the session, so no edit lands
+ * between the flush and the order clearing the cart.
+ * A session leaves the store only after its last flush succeeded; an evicted session whose write
+ * is still pending or failed stays in the retiring map and is handed back out instead of reloaded.
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "cart.session.enabled", havingValue = "true")
+public class SessionCartServiceImp implements CartService {
+
+    private final CartRepository cartRepository;
+
+    private final SkinCareRoutineRepository skinCareRoutineRepository;
+
+    private final CartWriter cartWriter;
+
+    private final CartPricingEngine cartPricingEngine;
+
+    private final int maxCarts;
+
+    // Access-ordered, guarded by its own monitor
+    private final LinkedHashMap<String, SessionCart> carts = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Evicted sessions not flushed yet, guarded by the carts monitor
+    private final Map<String, SessionCart> retiring = new HashMap<>();
+
+    private final AtomicInteger dirtyCount = new AtomicInteger();
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Timer flushTimer;
+
+    public SessionCartServiceImp(CartRepository cartRepository, SkinCareRoutineRepository skinCareRoutineRepository, CartWriter cartWriter, CartPricingEngine cartPricingEngine, MeterRegistry meterRegistry,
+                                 @Value("${cart.session.max-carts:10000}") int maxCarts) {
+        this.cartRepository = cartRepository;
+        this.skinCareRoutineRepository = skinCareRoutineRepository;
+        this.cartWriter = cartWriter;
+        this.cartPricingEngine = cartPricingEngine;
+        this.maxCarts = maxCarts;
+        this.hits = meterRegistry.counter("cart.session.requests", "result", "hit");
+        this.misses = meterRegistry.counter("cart.session.requests", "result", "miss");
+        this.flushTimer = meterRegistry.timer("cart.session.flush");
+        meterRegistry.gauge("cart.session.dirty", dirtyCount);
+        meterRegistry.gauge("cart.session.size", carts, map -> {
+            synchronized (map) {
+                return map.size();
+            }
+        });
+    }
+
+    /* Cart */
+
+    // Get Cart by UserID
+    @Override
+    public CartDTO getCartByUserID(String userID) {
+        return cartPricingEngine.price(snapshot(userID), LocalDate.now());
+    }
+
+    // Add item to Cart
+    @Override
+    public void addItemToCart(String userID, String productID, int quantity) {
+        merge(userID, List.of(priceLine(userID, productID, quantity)));
+    }
+
+    // Add several items with one product query
+    @Override
+    public void addItemsToCart(String userID, List<AddCartItemRequest> items) {
+        merge(userID, cartPricingEngine.priceRequests(userID, items, LocalDate.now()));
+    }
+
+    // Add every product of a routine, one of each
+    @Override
+    public void addRoutineToCart(String userID, String routineID) {
+        SkinCareRoutine routine = skinCareRoutineRepository.findByRoutineID(routineID)
+                .orElseThrow(() -> new RuntimeException("Routine not found"));
+        if (routine.getProducts() == null || routine.getProducts().isEmpty()) {
+            throw new RuntimeException("Routine has no products");
+        }
+
+        addItemsToCart(userID, routine.getProducts().stream()
+                .map(product -> new AddCartItemRequest(product.getProductID(), 1))
+                .toList());
+    }
+
+    // Remove item from Cart
+    @Override
+    public void removeItemFromCart(String userID, String productID) {
+        mutate(userID, cart -> cart.setItems(cart.getItems().stream()
+                .filter(item -> !item.getProductID().equals(productID))
+                .toList()));
+    }
+
+    // Clear entire Cart
+    @Override
+    public void clearCart(String userID) {
+        mutate(userID, cart -> cart.setItems(List.of()));
+    }
+
+    /* CartItem */
+
+    // Get CartItem by UserID and ProductID
+    @Override
+    public CartItemDTO getCartItem(String userID, String productID) {
+        return getCartByUserID(userID).getItems().stream()
+                .filter(item -> item.getProductID().equals(productID))
+                .findFirst()
+                .orElse(null);
+    }
+
+    // Update CartItem quantity
+    @Override
+    public void updateCartItem(String userID, String productID, int quantity) {
+        CartItem line = priceLine(userID, productID, quantity);
+        mutate(userID, cart -> {
+            List<CartItem> items = new ArrayList<>(cart.getItems());
+            CartItem existing = find(items, productID);
+            if (existing == null) {
+                throw new RuntimeException("Cart item not found");
+            }
+            items.set(items.indexOf(existing), line);
+            cart.setItems(items);
+        });
+    }
+
+    // Write the cart through, keeping the session
+    @Override
+    public void flushCart(String userID) {
+        SessionCart session;
+        synchronized (carts) {
+            session = carts.containsKey(userID) ? carts.get(userID) : retiring.get(userID);
+        }
+        if (session != null && !flush(session)) {
+            throw new RuntimeException("Could not save cart");
+        }
+    }
+
+    // Hold the session while the order runs, so it reads exactly the flushed items and clears them
+    @Override
+    public <T> T checkout(String userID, Supplier<T> order) {
+        while (true) {
+            SessionCart session = session(userID);
+            synchronized (session.writeLock) {
+                synchronized (session) {
+                    if (session.retired) {
+                        continue;
+                    }
+                    if (!flush(session)) {
+                        throw new RuntimeException("Could not save cart");
+                    }
+                    T result = order.get();
+                    // The order emptied the document in the same transaction
+                    session.cart.setItems(List.of());
+                    return result;
+                }
+            }
+        }
+    }
+
+    /* Flushing */
+
+    @Scheduled(fixedDelayString = "${cart.session.flush-interval-ms:5000}")
+    public void flushDirty() {
+        List<SessionCart> sessions;
+        List<SessionCart> evicted;
+        synchronized (carts) {
+            sessions = new ArrayList<>(carts.values());
+            evicted = new ArrayList<>(retiring.values());
+        }
+        sessions.forEach(this::flush);
+        evicted.forEach(this::retire);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushDirty();
+    }
+
+    // Returns false when the write failed and the session is dirty again
+    private boolean flush(SessionCart session) {
+        // One write per session at a time, so an older item list never lands after a newer one
+        synchronized (session.writeLock) {
+            List<CartItem> items;
+            synchronized (session) {
+                if (!session.dirty) {
+                    return true;
+                }
+                items = session.cart.getItems();
+                markClean(session);
+            }
+
+            try {
+                flushTimer.record(() -> cartWriter.replaceItems(session.userID, items));
+                return true;
+            } catch (RuntimeException e) {
+                // Keep it dirty for the next tick unless a newer change already is
+                synchronized (session) {
+                    markDirty(session);
+                }
+                log.warn("Could not flush cart of user {}: {}", session.userID, e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    // Flush an evicted session and drop it once clean; until then session() hands it back out
+    private void retire(SessionCart session) {
+        if (!flush(session)) {
+            return;
+        }
+        // Session before store, so a checkout holding the session never blocks the whole store
+        synchronized (session) {
+            synchronized (carts) {
+                if (!session.dirty && retiring.remove(session.userID, session)) {
+                    session.retired = true;
+                }
+            }
+        }
+    }
+
+    /* Store */
+
+    private Cart snapshot(String userID) {
+        SessionCart session = session(userID);
+        synchronized (session) {
+            Cart copy = new Cart();
+            copy.setId(session.cart.getId());
+            copy.setUserID(session.cart.getUserID());
+            copy.setItems(session.cart.getItems());
+            return copy;
+        }
+    }
+
+    private void mutate(String userID, Consumer<Cart> change) {
+        while (true) {
+            SessionCart session = session(userID);
+            synchronized (session) {
+                if (session.retired) {
+                    continue;
+                }
+                change.accept(session.cart);
+                markDirty(session);
+                return;
+            }
+        }
+    }
+
+    private SessionCart session(String userID) {
+        while (true) {
+            SessionCart session;
+            boolean miss = false;
+            List<SessionCart> evicted = new ArrayList<>();
+            synchronized (carts) {
+                session = carts.get(userID);
+                if (session == null) {
+                    // An evicted session still owns the latest items until its flush succeeds
+                    session = retiring.remove(userID);
+                    if (session == null) {
+                        session = new SessionCart(userID);
+                        miss = true;
+                    }
+                    carts.put(userID, session);
+                    evict(session, evicted);
+                }
+            }
+            evicted.forEach(this::retire);
+
+            if (miss) {
+                misses.increment();
+                load(session);
+                return session;
+            }
+            // Wait for whoever is loading it; start over if that load failed
+            if (session.loaded.join()) {
+                hits.increment();
+                return session;
+            }
+        }
+    }
+
+    // Read the cart from Mongo; no other session of the user is in the store or still flushing
+    private void load(SessionCart session) {
+        try {
+            Cart cart = cartRepository.findByUserID(session.userID)
+                    .orElseThrow(() -> new RuntimeException("Cart not found"));
+            if (cart.getItems() == null) {
+                cart.setItems(List.of());
+            }
+            synchronized (session) {
+                session.cart = cart;
+            }
+            session.loaded.complete(true);
+        } catch (RuntimeException e) {
+            synchronized (carts) {
+                carts.remove(session.userID, session);
+            }
+            session.loaded.complete(false);
+            throw e;
+        }
+    }
+
+    // Move the least recently used sessions past maxCarts to the retiring map; caller holds the carts monitor
+    private void evict(SessionCart keep, List<SessionCart> evicted) {
+        Iterator<Map.Entry<String, SessionCart>> eldest = carts.entrySet().iterator();
+        while (carts.size() > maxCarts && eldest.hasNext()) {
+            SessionCart candidate = eldest.next().getValue();
+            if (candidate != keep && candidate.loaded.getNow(false)) {
+                evicted.add(candidate);
+                retiring.put(candidate.userID, candidate);
+                eldest.remove();
+            }
+        }
+    }
+
+    // Add the quantities of the lines to the cart, taking their name, price and discount
+    private void merge(String userID, List<CartItem> lines) {
+        mutate(userID, cart -> {
+            List<CartItem> items = new ArrayList<>(cart.getItems());
+            for (CartItem line : lines) {
+                CartItem existing = find(items, line.getProductID());
+                if (existing != null) {
+                    CartItem merged = copyOf(line);
+                    merged.setQuantity(existing.getQuantity() + line.getQuantity());
+                    items.set(items.indexOf(existing), merged);
+                } else {
+                    items.add(line);
+                }
+            }
+            cart.setItems(items);
+        });
+    }
+
+    private CartItem copyOf(CartItem line) {
+        CartItem copy = new CartItem();
+        copy.setUserID(line.getUserID());
+        copy.setProductID(line.getProductID());
+        copy.setProductName(line.getProductName());
+        copy.setProductPrice(line.getProductPrice());
+        copy.setQuantity(line.getQuantity());
+        copy.setDiscountPercentage(line.getDiscountPercentage());
+        return copy;
+    }
+
+    private CartItem priceLine(String userID, String productID, int quantity) {
+        return cartPricingEngine.priceLines(userID, Map.of(productID, quantity), LocalDate.now()).get(0);
+    }
+
+    private CartItem find(List<CartItem> items, String productID) {
+        return items.stream()
+                .filter(item -> item.getProductID().equals(productID))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void markDirty(SessionCart session) {
+        if (!session.dirty) {
+            session.dirty = true;
+            dirtyCount.incrementAndGet();
+        }
+    }
+
+    private void markClean(SessionCart session) {
+        session.dirty = false;
+        dirtyCount.decrementAndGet();
+    }
+
+    // Item lists are replaced, never edited in place, so a flush can write the list it read
+    private static class SessionCart {
+
+        private final String userID;
+
+        // Completes with true once cart is set, false if the load failed
+        private final CompletableFuture<Boolean> loaded = new CompletableFuture<>();
+
+        private final Object writeLock = new Object();
+
+        private Cart cart;
+
+        private boolean dirty;
+
+        private boolean retired;
+
+        private SessionCart(String userID) {
+            this.userID = userID;
+        }
+    }
+}
@@ -13,6 +13,9 @@ import com.glowcorner.backend.model.mapper.SkinCareRoutineMapper;
 import com.glowcorner.backend.repository.ProductRepository;
 import com.glowcorner.backend.repository.SkinCareRoutineRepository;
 import com.glowcorner.backend.repository.UserRepository;
+import com.glowcorner.backend.service.implement.catalog.AutocompleteIndex;
+import com.glowcorner.backend.service.implement.catalog.CatalogSnapshotCache;
+import com.glowcorner.backend.service.implement.catalog.CatalogVersion;
 import com.glowcorner.backend.service.interfaces.SkinCareRoutineService;
 import org.springframework.stereotype.Service;
 
@@ -30,13 +33,19 @@ public class SkinCareRoutineServiceImp implements SkinCareRoutineService {
     private final CreateRoutineRequestMapper createRoutineRequestMapper;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final AutocompleteIndex autocompleteIndex;
+    private final CatalogVersion catalogVersion;
+    private final CatalogSnapshotCache catalogSnapshotCache;
 
-    public SkinCareRoutineServiceImp(SkinCareRoutineMapper skinCareRoutineMapper, SkinCareRoutineRepository skinCareRoutineRepository, CreateRoutineRequestMapper createRoutineRequestMapper, ProductRepository productRepository, UserRepository userRepository) {
+    public SkinCareRoutineServiceImp(SkinCareRoutineMapper skinCareRoutineMapper, SkinCareRoutineRepository skinCareRoutineRepository, CreateRoutineRequestMapper createRoutineRequestMapper, ProductRepository productRepository, UserRepository userRepository, AutocompleteIndex autocompleteIndex, CatalogVersion catalogVersion, CatalogSnapshotCache catalogSnapshotCache) {
         this.skinCareRoutineMapper = skinCareRoutineMapper;
         this.skinCareRoutineRepository = skinCareRoutineRepository;
         this.createRoutineRequestMapper = createRoutineRequestMapper;
         this.productRepository = productRepository;
         this.userRepository = userRepository;
+        this.autocompleteIndex = autocompleteIndex;
+        this.catalogVersion = catalogVersion;
+        this.catalogSnapshotCache = catalogSnapshotCache;
     }
 
     // Get all Skincare routine
@@ -79,6 +88,8 @@ public class SkinCareRoutineServiceImp implements SkinCareRoutineService {
     public SkinCareRoutineDTO createSkinCareRoutine(CreateRoutineRequest request) {
         SkinCareRoutine skinCareRoutine = createRoutineRequestMapper.fromCreateRequest(request);
         skinCareRoutine = skinCareRoutineRepository.save(skinCareRoutine);
+        autocompleteIndex.putRoutine(skinCareRoutine);
+        routineChanged();
         return skinCareRoutineMapper.toDTO(skinCareRoutine);
     }
 
@@ -115,6 +126,8 @@ public class SkinCareRoutineServiceImp implements SkinCareRoutineService {
             }
 
             SkinCareRoutine updatedRoutine = skinCareRoutineRepository.save(existingRoutine);
+            autocompleteIndex.putRoutine(updatedRoutine);
+            routineChanged();
             return skinCareRoutineMapper.toDTO(updatedRoutine);
         } catch (Exception e) {
             throw new RuntimeException("Fail to update SkincareRoutine: " + e.getMessage(), e);
@@ -145,6 +158,8 @@ public class SkinCareRoutineServiceImp implements SkinCareRoutineService {
                 .orElseThrow(() -> new RuntimeException("Skin care routine not found"));
         existingRoutine.setStatus(RoutineStatus.DISABLE); // Assuming RoutineStatus enum has DISABLE status
         skinCareRoutineRepository.save(existingRoutine);
+        autocompleteIndex.putRoutine(existingRoutine);
+        routineChanged();
     }
 
     // Delete a product from a skincare routine
@@ -160,10 +175,16 @@ public class SkinCareRoutineServiceImp implements SkinCareRoutineService {
 
             existingRoutine.setProducts(updatedProducts);
             SkinCareRoutine updatedRoutine = skinCareRoutineRepository.save(existingRoutine);
+            autocompleteIndex.putRoutine(updatedRoutine);
+            routineChanged();
             return skinCareRoutineMapper.toDTO(updatedRoutine);
         } catch (Exception e) {
             throw new RuntimeException("Fail to delete product from SkincareRoutine: " + e.getMessage(), e);
         }
     }
 
+    // Routine suggestions are node-local, other nodes reload them when the catalog version moves
+    private void routineChanged() {
+        catalogSnapshotCache.catalogUnchanged(catalogVersion.bump());
+    }
 }
@@ -3,6 +3,7 @@ package com.glowcorner.backend.service.implement;
 import com.glowcorner.backend.entity.mongoDB.Cart;
 import com.glowcorner.backend.entity.mongoDB.User;
 import com.glowcorner.backend.entity.mongoDB.Authentication;
+import com.glowcorner.backend.enums.Role;
 import com.glowcorner.backend.enums.Status.UserStatus;
 import com.glowcorner.backend.model.DTO.User.UserDTOByCustomer;
 import com.glowcorner.backend.model.DTO.User.UserDTOByManager;
@@ -15,6 +16,7 @@ import com.glowcorner.backend.model.mapper.User.*;
 import com.glowcorner.backend.repository.AuthenticationRepository;
 import com.glowcorner.backend.repository.CartRepository;
 import com.glowcorner.backend.repository.UserRepository;
+import com.glowcorner.backend.security.TokenRevocationStore;
 import com.glowcorner.backend.service.interfaces.UserService;
 import org.springframework.stereotype.Service;
 
@@ -39,6 +41,8 @@ public class UserServiceImp implements UserService {
 
     private final CartRepository cartRepository;
 
+    private final TokenRevocationStore tokenRevocationStore;
+
     public UserServiceImp(
             UserRepository userRepository,
             UserMapperManager userMapperManager,
@@ -46,7 +50,8 @@ public class UserServiceImp implements UserService {
             CreateUserRequestMapper createUserRequestMapper,
             CreateCustomerRequestMapper customerCreateRequestMapper,
             AuthenticationRepository authenticationRepository,
-            CartRepository cartRepository) {
+            CartRepository cartRepository,
+            TokenRevocationStore tokenRevocationStore) {
         this.userRepository = userRepository;
         this.userMapperManager = userMapperManager;
         this.userMapperCustomer = userMapperCustomer;
@@ -54,6 +59,7 @@ public class UserServiceImp implements UserService {
         this.customerCreateRequestMapper = customerCreateRequestMapper;
         this.authenticationRepository = authenticationRepository;
         this.cartRepository = cartRepository;
+        this.tokenRevocationStore = tokenRevocationStore;
     }
 
     /* Manager */
@@ -89,6 +95,8 @@ public class UserServiceImp implements UserService {
             // Tìm user trong DB
             User existingUser = userRepository.findByUserID(userID)
                     .orElseThrow(() -> new RuntimeException("User not found"));
+            String previousEmail = existingUser.getEmail();
+            Role previousRole = existingUser.getRole();
 
             // Cập nhật thông tin user
             if (userDTOByManager.getFullName() != null) existingUser.setFullName(userDTOByManager.getFullName());
@@ -116,6 +124,11 @@ public class UserServiceImp implements UserService {
             // Lưu lại user
             User updatedUser = userRepository.save(existingUser);
 
+            // Tokens carry the email and role, so a change of either invalidates the old ones
+            if (previousEmail != null && (!previousEmail.equals(updatedUser.getEmail()) || previousRole != updatedUser.getRole())) {
+                tokenRevocationStore.revokeTokensIssuedBefore(previousEmail);
+            }
+
             return userMapperManager.toUserDTO(updatedUser);
         } catch (Exception e) {
             throw new RuntimeException("Fail to update user: " + e.getMessage(), e);
@@ -131,6 +144,9 @@ public class UserServiceImp implements UserService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
         existingUser.setStatus(UserStatus.DISABLE); // Assuming UserStatus enum has DISABLE status
         userRepository.save(existingUser);
+        if (existingUser.getEmail() != null) {
+            tokenRevocationStore.disableUser(existingUser.getEmail());
+        }
     }
 
     // Search user by name
@@ -182,6 +198,7 @@ public class UserServiceImp implements UserService {
             //Find existing user
             User existingUser = userRepository.findByUserID(userID)
                     .orElseThrow(() -> new RuntimeException("User not found"));
+            String previousEmail = existingUser.getEmail();
 
             //Update
             if(userDTOByCustomer.getFullName() != null) existingUser.setFullName(userDTOByCustomer.getFullName());
@@ -193,6 +210,9 @@ public class UserServiceImp implements UserService {
 
             //Save update
             User updatedUser = userRepository.save(existingUser);
+            if (previousEmail != null && !previousEmail.equals(updatedUser.getEmail())) {
+                tokenRevocationStore.revokeTokensIssuedBefore(previousEmail);
+            }
 
             //Convert updated user entity to DTO
             return userMapperCustomer.toUserDTO(updatedUser);
@@ -0,0 +1,41 @@
+package com.glowcorner.backend.service.implement.cart;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * One-shot removal of the legacy standalone "cartItem" collection.
+ * Every cart write embedded its line in Cart.items before writing the standalone copy, so the
+ * carts already hold every live line. The legacy documents also kept lines that were removed or
+ * bought since, which must not come back, so they are dropped without being folded into carts.
+ */
+@Slf4j
+@Component
+public class CartItemMigration {
+
+    private static final String LEGACY_COLLECTION = "cartItem";
+
+    private final MongoTemplate mongoTemplate;
+
+    public CartItemMigration(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            if (!mongoTemplate.collectionExists(LEGACY_COLLECTION)) {
+                return;
+            }
+            long dropped = mongoTemplate.getCollection(LEGACY_COLLECTION).countDocuments(new Document());
+            mongoTemplate.dropCollection(LEGACY_COLLECTION);
+            log.info("Dropped {} legacy cart items, carts already embed their lines", dropped);
+        } catch (RuntimeException e) {
+            log.warn("Could not drop legacy cart items: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.glowcorner.backend.service.implement.cart;
+
+import com.glowcorner.backend.entity.mongoDB.Cart;
+import com.glowcorner.backend.entity.mongoDB.CartItem;
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.entity.mongoDB.Promotion;
+import com.glowcorner.backend.model.DTO.Cart.CartDTO;
+import com.glowcorner.backend.model.DTO.Cart.CartItemDTO;
+import com.glowcorner.backend.model.DTO.request.Cart.AddCartItemRequest;
+import com.glowcorner.backend.repository.ProductRepository;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Prices whole carts: one batched product query, promotions from the in-memory index,
+ * then item totals, discounted totals and cart totals in a single pass over the items.
+ */
+@Component
+public class CartPricingEngine {
+
+    private final ProductRepository productRepository;
+
+    private final PromotionIndex promotionIndex;
+
+    public CartPricingEngine(ProductRepository productRepository, PromotionIndex promotionIndex) {
+        this.productRepository = productRepository;
+        this.promotionIndex = promotionIndex;
+    }
+
+    // Reprice a stored cart with current prices and promotions
+    public CartDTO price(Cart cart, LocalDate date) {
+        List<CartItem> items = cart.getItems() != null ? cart.getItems() : List.of();
+        Map<String, Product> products = findProducts(items.stream().map(CartItem::getProductID).toList());
+        Map<String, Promotion> promotions = promotionIndex.findActive(products.keySet(), date);
+
+        List<CartItemDTO> itemDTOs = new ArrayList<>(items.size());
+        long totalAmount = 0;
+        long discountedTotalAmount = 0;
+        for (CartItem item : items) {
+            Product product = products.get(item.getProductID());
+            Promotion promotion = promotions.get(item.getProductID());
+
+            // A product removed from the catalog keeps the name and price it was added with
+            String productName = product != null ? product.getProductName() : item.getProductName();
+            Long productPrice = product != null ? product.getPrice() : item.getProductPrice();
+            Integer discount = promotion != null ? promotion.getDiscount() : null;
+
+            long itemTotal = productPrice != null ? productPrice * item.getQuantity() : 0;
+            Long itemDiscountedTotal = discount != null && productPrice != null
+                    ? discountedPrice(productPrice, discount) * item.getQuantity()
+                    : null;
+            totalAmount += itemTotal;
+            discountedTotalAmount += itemDiscountedTotal != null ? itemDiscountedTotal : itemTotal;
+
+            itemDTOs.add(new CartItemDTO(cart.getUserID(), item.getProductID(), productName, productPrice,
+                    item.getQuantity(), itemTotal, discount, itemDiscountedTotal));
+        }
+
+        return new CartDTO(cart.getUserID(), itemDTOs, totalAmount, items.isEmpty() ? null : discountedTotalAmount);
+    }
+
+    // Build priced lines for products about to be written, in request order
+    public List<CartItem> priceLines(String userID, Map<String, Integer> quantities, LocalDate date) {
+        Map<String, Product> products = findProducts(quantities.keySet());
+        Map<String, Promotion> promotions = promotionIndex.findActive(products.keySet(), date);
+
+        List<CartItem> lines = new ArrayList<>(quantities.size());
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                throw new RuntimeException("Product not found: " + entry.getKey());
+            }
+            Promotion promotion = promotions.get(entry.getKey());
+
+            CartItem line = new CartItem();
+            line.setUserID(userID);
+            line.setProductID(product.getProductID());
+            line.setProductName(product.getProductName());
+            line.setProductPrice(product.getPrice());
+            line.setQuantity(entry.getValue());
+            line.setDiscountPercentage(promotion != null ? promotion.getDiscount() : null);
+            lines.add(line);
+        }
+        return lines;
+    }
+
+    // Merge duplicate products of a bulk request and price them together
+    public List<CartItem> priceRequests(String userID, List<AddCartItemRequest> requests, LocalDate date) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (AddCartItemRequest request : requests) {
+            if (request.getProductID() == null || request.getQuantity() <= 0) {
+                throw new RuntimeException("Invalid cart item: " + request.getProductID());
+            }
+            quantities.merge(request.getProductID(), request.getQuantity(), Integer::sum);
+        }
+        return priceLines(userID, quantities, date);
+    }
+
+    private Map<String, Product> findProducts(Collection<String> productIDs) {
+        if (productIDs.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findByProductIDIn(new ArrayList<>(new LinkedHashSet<>(productIDs))).stream()
+                .collect(Collectors.toMap(Product::getProductID, Function.identity(), (a, b) -> a));
+    }
+
+    private long discountedPrice(long price, int discount) {
+        return price - (price * discount / 100);
+    }
+}
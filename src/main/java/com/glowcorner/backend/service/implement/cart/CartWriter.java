@@ -0,0 +1,156 @@
+package com.glowcorner.backend.service.implement.cart;
+
+import com.glowcorner.backend.entity.mongoDB.Cart;
+import com.glowcorner.backend.entity.mongoDB.CartItem;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Atomic cart mutations.
+ * Each write is one findOneAndUpdate with an aggregation pipeline that edits the embedded items
+ * and recomputes item and cart totals in the same update, so concurrent requests on one cart
+ * are serialized by Mongo instead of overwriting each other's read-modify-write.
+ * Totals use the price and discount stored on each item, set by the caller when the item is written.
+ */
+@Component
+public class CartWriter {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CartWriter(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    // Add quantities to existing lines or append new ones, refreshing name, price and discount
+    public Cart addItems(String userID, List<CartItem> lines) {
+        // $$value is the items so far, $$this the line being merged
+        Document mergedLine = new Document("$mergeObjects", List.of("$$i", new Document()
+                .append("quantity", new Document("$add", List.of("$$i.quantity", "$$this.quantity")))
+                .append("productName", "$$this.productName")
+                .append("productPrice", "$$this.productPrice")
+                .append("discountPercentage", "$$this.discountPercentage")));
+        Document mergeExisting = new Document("$map", new Document("input", "$$value")
+                .append("as", "i")
+                .append("in", new Document("$cond", List.of(
+                        new Document("$eq", List.of("$$i.productID", "$$this.productID")),
+                        mergedLine,
+                        "$$i"))));
+        Document merge = new Document("$cond", List.of(
+                new Document("$in", List.of("$$this.productID", "$$value.productID")),
+                mergeExisting,
+                new Document("$concatArrays", List.of("$$value", List.of("$$this")))));
+
+        return update(Filters.eq("userID", userID), reduceLines(userID, lines, merge), new FindOneAndUpdateOptions());
+    }
+
+    // Set the quantity of an existing line, refreshing its price and discount
+    public Cart setQuantity(String userID, CartItem line) {
+        Document items = new Document("$map", new Document("input", "$items")
+                .append("as", "i")
+                .append("in", new Document("$cond", List.of(
+                        new Document("$eq", List.of("$$i.productID", line.getProductID())),
+                        new Document("$mergeObjects", List.of("$$i", new Document("$literal", new Document()
+                                .append("quantity", line.getQuantity())
+                                .append("productName", line.getProductName())
+                                .append("productPrice", line.getProductPrice())
+                                .append("discountPercentage", line.getDiscountPercentage())))),
+                        "$$i"))));
+
+        return update(Filters.and(Filters.eq("userID", userID), Filters.eq("items.productID", line.getProductID())), items, new FindOneAndUpdateOptions());
+    }
+
+    // Overwrite all lines with the given ones
+    public Cart replaceItems(String userID, List<CartItem> lines) {
+        return update(Filters.eq("userID", userID), new Document("$literal", literals(userID, lines)), new FindOneAndUpdateOptions());
+    }
+
+    // Drop one line
+    public Cart removeItem(String userID, String productID) {
+        Document items = new Document("$filter", new Document("input", new Document("$ifNull", List.of("$items", List.of())))
+                .append("as", "i")
+                .append("cond", new Document("$ne", List.of("$$i.productID", productID))));
+
+        return update(Filters.eq("userID", userID), items, new FindOneAndUpdateOptions());
+    }
+
+    // Empty the cart
+    public Cart clear(String userID) {
+        List<Document> pipeline = List.of(new Document("$set", new Document("items", List.of())
+                .append("totalAmount", 0L)
+                .append("discountedTotalAmount", null)));
+        return execute(Filters.eq("userID", userID), pipeline, new FindOneAndUpdateOptions());
+    }
+
+    // Fold the lines into the current items one at a time with the given merge expression
+    private Document reduceLines(String userID, List<CartItem> lines, Document merge) {
+        return new Document("$reduce", new Document("input", new Document("$literal", literals(userID, lines)))
+                .append("initialValue", new Document("$ifNull", List.of("$items", List.of())))
+                .append("in", merge));
+    }
+
+    private List<Document> literals(String userID, List<CartItem> lines) {
+        List<Document> literals = new ArrayList<>();
+        for (CartItem line : lines) {
+            literals.add(new Document("userID", userID)
+                    .append("productID", line.getProductID())
+                    .append("productName", line.getProductName())
+                    .append("productPrice", line.getProductPrice())
+                    .append("quantity", line.getQuantity())
+                    .append("discountPercentage", line.getDiscountPercentage()));
+        }
+        return literals;
+    }
+
+    // Returns the cart after the update, or null when no cart matched the filter
+    private Cart update(Bson filter, Document items, FindOneAndUpdateOptions options) {
+        List<Document> pipeline = List.of(
+                new Document("$set", new Document("items", items)),
+                new Document("$set", new Document("items", itemTotals())),
+                new Document("$set", cartTotals()));
+        return execute(filter, pipeline, options);
+    }
+
+    private Cart execute(Bson filter, List<Document> pipeline, FindOneAndUpdateOptions options) {
+        // execute() hands out the collection bound to the current transaction, if any
+        Document updated = mongoTemplate.execute(Cart.class, collection ->
+                collection.findOneAndUpdate(filter, pipeline, options.returnDocument(ReturnDocument.AFTER)));
+        return updated != null ? mongoTemplate.getConverter().read(Cart.class, updated) : null;
+    }
+
+    // totalAmount = price * quantity, discountedTotalAmount = (price - price * discount / 100) * quantity or null
+    private Document itemTotals() {
+        Document discountedPrice = new Document("$subtract", List.of(
+                "$$i.productPrice",
+                new Document("$trunc", new Document("$divide", List.of(
+                        new Document("$multiply", List.of("$$i.productPrice", "$$i.discountPercentage")), 100)))));
+
+        Document totalAmount = new Document("$toLong",
+                new Document("$multiply", List.of("$$i.productPrice", "$$i.quantity")));
+        Document discountedTotalAmount = new Document("$cond", Arrays.asList(
+                new Document("$eq", Arrays.asList(new Document("$ifNull", Arrays.asList("$$i.discountPercentage", null)), null)),
+                null,
+                new Document("$toLong", new Document("$multiply", List.of(discountedPrice, "$$i.quantity")))));
+
+        return new Document("$map", new Document("input", "$items")
+                .append("as", "i")
+                .append("in", new Document("$mergeObjects", List.of("$$i", new Document()
+                        .append("totalAmount", totalAmount)
+                        .append("discountedTotalAmount", discountedTotalAmount)))));
+    }
+
+    private Document cartTotals() {
+        return new Document("totalAmount", new Document("$sum", "$items.totalAmount"))
+                .append("discountedTotalAmount", new Document("$sum", new Document("$map", new Document("input", "$items")
+                        .append("as", "i")
+                        .append("in", new Document("$ifNull", List.of("$$i.discountedTotalAmount", "$$i.totalAmount"))))));
+    }
+}
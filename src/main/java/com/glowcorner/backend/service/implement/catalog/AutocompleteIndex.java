@@ -0,0 +1,304 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.entity.mongoDB.SkincareRoutine.SkinCareRoutine;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.enums.Status.RoutineStatus;
+import com.glowcorner.backend.enums.SuggestionType;
+import com.glowcorner.backend.model.DTO.SuggestionDTO;
+import com.glowcorner.backend.repository.ProductRepository;
+import com.glowcorner.backend.repository.SkinCareRoutineRepository;
+import com.glowcorner.backend.utils.TextNormalizer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Compressed (radix) trie of active product and routine names for prefix autocomplete.
+ * Each name is keyed, accent-folded, from every word start, so "mat" completes "Sữa rửa mặt".
+ * Every node caches the top-k suggestions of its subtree by rating, so a lookup is one walk
+ * down the prefix with no sorting. Writes re-index one name and refresh the caches on its paths.
+ * Routines are weighted by the average rating of their products.
+ */
+@Component
+public class AutocompleteIndex {
+
+    private static final Comparator<SuggestionDTO> BY_WEIGHT = Comparator
+            .comparing((SuggestionDTO suggestion) -> suggestion.getRating() != null ? suggestion.getRating() : 0f)
+            .reversed()
+            .thenComparing(suggestion -> suggestion.getName().length())
+            .thenComparing(SuggestionDTO::getName);
+
+    private final ProductRepository productRepository;
+
+    private final SkinCareRoutineRepository skinCareRoutineRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node("");
+
+    // "PRODUCT:id" -> keys the entry is stored under
+    private final Map<String, List<String>> keysByEntry = new HashMap<>();
+
+    // Entry key -> re-index of a put made while a reload reads Mongo, null when no reload runs; guarded by the lock
+    private Map<String, Runnable> writtenDuringReload;
+
+    @Value("${autocomplete.top-k:10}")
+    private int topK;
+
+    private static class Node {
+        String label;
+        final Map<Character, Node> children = new HashMap<>();
+        // Entries whose key ends at this node, by entry key
+        final Map<String, SuggestionDTO> terminals = new HashMap<>();
+        List<SuggestionDTO> top = List.of();
+
+        Node(String label) {
+            this.label = label;
+        }
+    }
+
+    public AutocompleteIndex(ProductRepository productRepository, SkinCareRoutineRepository skinCareRoutineRepository) {
+        this.productRepository = productRepository;
+        this.skinCareRoutineRepository = skinCareRoutineRepository;
+    }
+
+    // Load active products and routines
+    @PostConstruct
+    public synchronized void reload() {
+        Map<String, Runnable> written = new LinkedHashMap<>();
+        lock.writeLock().lock();
+        try {
+            writtenDuringReload = written;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            // Read without the lock so lookups keep running
+            List<Product> products = productRepository.findByStatus(ProductStatus.ACTIVE);
+            List<SkinCareRoutine> routines = skinCareRoutineRepository.findAll();
+            lock.writeLock().lock();
+            try {
+                root.children.clear();
+                root.terminals.clear();
+                root.top = List.of();
+                keysByEntry.clear();
+                products.forEach(this::indexProduct);
+                routines.forEach(this::indexRoutine);
+                // Saves put on this node while the read ran may be missing from it
+                written.values().forEach(Runnable::run);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                writtenDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // Products changed on another node
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        reload();
+    }
+
+    // Add, replace or drop a product after it was saved
+    public void putProduct(Product product) {
+        lock.writeLock().lock();
+        try {
+            indexProduct(product);
+            if (writtenDuringReload != null) {
+                writtenDuringReload.put(SuggestionType.PRODUCT + ":" + product.getProductID(), () -> indexProduct(product));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Add, replace or drop a routine after it was saved
+    public void putRoutine(SkinCareRoutine routine) {
+        lock.writeLock().lock();
+        try {
+            indexRoutine(routine);
+            if (writtenDuringReload != null) {
+                writtenDuringReload.put(SuggestionType.ROUTINE + ":" + routine.getRoutineID(), () -> indexRoutine(routine));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Best completions of a prefix, at most limit (capped by top-k)
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        String key = String.join(" ", TextNormalizer.tokenize(prefix));
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            String rest = key;
+            while (!rest.isEmpty()) {
+                Node child = node.children.get(rest.charAt(0));
+                if (child == null) {
+                    return List.of();
+                }
+                if (rest.startsWith(child.label)) {
+                    rest = rest.substring(child.label.length());
+                } else if (child.label.startsWith(rest)) {
+                    rest = "";
+                } else {
+                    return List.of();
+                }
+                node = child;
+            }
+            return node.top.size() <= limit ? node.top : node.top.subList(0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void indexProduct(Product product) {
+        String entryKey = SuggestionType.PRODUCT + ":" + product.getProductID();
+        unindex(entryKey);
+        if (product.getStatus() == ProductStatus.ACTIVE) {
+            index(entryKey, new SuggestionDTO(SuggestionType.PRODUCT, product.getProductID(), product.getProductName(), product.getRating()));
+        }
+    }
+
+    private void indexRoutine(SkinCareRoutine routine) {
+        String entryKey = SuggestionType.ROUTINE + ":" + routine.getRoutineID();
+        unindex(entryKey);
+        // Routines created before the status field existed have no status and count as active
+        if (routine.getStatus() != RoutineStatus.DISABLE) {
+            index(entryKey, new SuggestionDTO(SuggestionType.ROUTINE, routine.getRoutineID(), routine.getRoutineName(), averageRating(routine)));
+        }
+    }
+
+    private Float averageRating(SkinCareRoutine routine) {
+        if (routine.getProducts() == null) {
+            return null;
+        }
+        OptionalDouble average = routine.getProducts().stream()
+                .filter(product -> product.getRating() != null)
+                .mapToDouble(Product::getRating)
+                .average();
+        return average.isPresent() ? (float) average.getAsDouble() : null;
+    }
+
+    private void index(String entryKey, SuggestionDTO suggestion) {
+        List<String> tokens = TextNormalizer.tokenize(suggestion.getName());
+        if (suggestion.getId() == null || tokens.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String key = String.join(" ", tokens.subList(i, tokens.size()));
+            if (!keys.contains(key)) {
+                keys.add(key);
+                insert(key, entryKey, suggestion);
+            }
+        }
+        keysByEntry.put(entryKey, keys);
+    }
+
+    private void unindex(String entryKey) {
+        List<String> keys = keysByEntry.remove(entryKey);
+        if (keys != null) {
+            keys.forEach(key -> delete(key, entryKey));
+        }
+    }
+
+    private void insert(String key, String entryKey, SuggestionDTO suggestion) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        String rest = key;
+        path.push(node);
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null) {
+                child = new Node(rest);
+                node.children.put(rest.charAt(0), child);
+                rest = "";
+            } else {
+                int common = commonPrefix(child.label, rest);
+                if (common < child.label.length()) {
+                    // Split the edge: node -> middle -> child
+                    Node middle = new Node(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    middle.children.put(child.label.charAt(0), child);
+                    middle.top = child.top;
+                    node.children.put(middle.label.charAt(0), middle);
+                    child = middle;
+                }
+                rest = rest.substring(common);
+            }
+            node = child;
+            path.push(node);
+        }
+        node.terminals.put(entryKey, suggestion);
+        path.forEach(this::refreshTop);
+    }
+
+    private void delete(String key, String entryKey) {
+        Deque<Node> path = new ArrayDeque<>();
+        Node node = root;
+        String rest = key;
+        path.push(node);
+        while (!rest.isEmpty()) {
+            Node child = node.children.get(rest.charAt(0));
+            if (child == null || !rest.startsWith(child.label)) {
+                return;
+            }
+            rest = rest.substring(child.label.length());
+            node = child;
+            path.push(node);
+        }
+        node.terminals.remove(entryKey);
+
+        // Prune empty leaves bottom-up, then refresh the remaining path
+        Node current = path.pop();
+        while (!path.isEmpty() && current.terminals.isEmpty() && current.children.isEmpty()) {
+            Node parent = path.peek();
+            parent.children.remove(current.label.charAt(0));
+            current = path.pop();
+        }
+        refreshTop(current);
+        path.forEach(this::refreshTop);
+    }
+
+    // Merge the subtree caches of the children with the entries ending here
+    private void refreshTop(Node node) {
+        List<SuggestionDTO> candidates = new ArrayList<>(node.terminals.values());
+        node.children.values().forEach(child -> candidates.addAll(child.top));
+        candidates.sort(BY_WEIGHT);
+        List<SuggestionDTO> top = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (SuggestionDTO candidate : candidates) {
+            if (top.size() == topK) {
+                break;
+            }
+            if (seen.add(candidate.getType() + ":" + candidate.getId())) {
+                top.add(candidate);
+            }
+        }
+        node.top = List.copyOf(top);
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
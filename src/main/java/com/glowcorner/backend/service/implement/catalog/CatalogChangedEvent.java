@@ -0,0 +1,7 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+/**
+ * Published when another node changed products, promotions or routines, in-memory catalog views reload on it.
+ */
+public record CatalogChangedEvent(long version) {
+}
@@ -0,0 +1,77 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.SkinType;
+import com.glowcorner.backend.model.DTO.FacetedProductsDTO;
+import com.glowcorner.backend.model.DTO.PriceBucketDTO;
+import com.glowcorner.backend.model.DTO.ProductDTO;
+import com.glowcorner.backend.model.DTO.request.Product.ProductFilterRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * Counts skin type, category and price bucket facets in one pass over the catalog.
+ * Facets are disjunctive: a dimension is counted with every filter except its own,
+ * so the sidebar shows how many products each additional choice would match.
+ */
+@Component
+public class CatalogFacetCounter {
+
+    private final long[] priceBounds;
+
+    public CatalogFacetCounter(@Value("${catalog.facets.price-bounds:100000,300000,500000,1000000}") long[] priceBounds) {
+        this.priceBounds = priceBounds.clone();
+        Arrays.sort(this.priceBounds);
+    }
+
+    // Facet counts only, the caller sets the page
+    public FacetedProductsDTO count(Collection<ProductDTO> products, ProductFilterRequest filter, Set<String> nameMatches) {
+        Set<SkinType> skinTypes = filter.getSkinTypes() == null || filter.getSkinTypes().isEmpty()
+                ? null : EnumSet.copyOf(filter.getSkinTypes());
+        Set<Category> categories = filter.getCategories() == null || filter.getCategories().isEmpty()
+                ? null : EnumSet.copyOf(filter.getCategories());
+
+        Map<SkinType, Long> skinTypeCounts = new EnumMap<>(SkinType.class);
+        Map<Category, Long> categoryCounts = new EnumMap<>(Category.class);
+        Arrays.stream(SkinType.values()).forEach(skinType -> skinTypeCounts.put(skinType, 0L));
+        Arrays.stream(Category.values()).forEach(category -> categoryCounts.put(category, 0L));
+        long[] bucketCounts = new long[priceBounds.length + 1];
+
+        for (ProductDTO product : products) {
+            if (nameMatches != null && !nameMatches.contains(product.getProductID())) {
+                continue;
+            }
+            boolean matchesSkinType = skinTypes == null
+                    || (product.getSkinTypes() != null && product.getSkinTypes().stream().anyMatch(skinTypes::contains));
+            boolean matchesCategory = categories == null || categories.contains(product.getCategory());
+            boolean matchesPrice = (filter.getMinPrice() == null || (product.getPrice() != null && product.getPrice() >= filter.getMinPrice()))
+                    && (filter.getMaxPrice() == null || (product.getPrice() != null && product.getPrice() <= filter.getMaxPrice()));
+
+            if (matchesCategory && matchesPrice && product.getSkinTypes() != null) {
+                new HashSet<>(product.getSkinTypes()).forEach(skinType -> skinTypeCounts.merge(skinType, 1L, Long::sum));
+            }
+            if (matchesSkinType && matchesPrice && product.getCategory() != null) {
+                categoryCounts.merge(product.getCategory(), 1L, Long::sum);
+            }
+            if (matchesSkinType && matchesCategory && product.getPrice() != null) {
+                bucketCounts[bucketOf(product.getPrice())]++;
+            }
+        }
+
+        List<PriceBucketDTO> buckets = new ArrayList<>();
+        for (int i = 0; i < bucketCounts.length; i++) {
+            Long min = i == 0 ? 0L : priceBounds[i - 1];
+            Long max = i < priceBounds.length ? priceBounds[i] : null;
+            buckets.add(new PriceBucketDTO(min, max, bucketCounts[i]));
+        }
+        return new FacetedProductsDTO(null, skinTypeCounts, categoryCounts, buckets);
+    }
+
+    // Index of the first bound above the price
+    private int bucketOf(long price) {
+        int index = Arrays.binarySearch(priceBounds, price);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+}
@@ -0,0 +1,115 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.SkinType;
+import com.glowcorner.backend.model.DTO.ProductDTO;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Immutable view of the active catalog with discounted prices precomputed for one day.
+ * The snapshot owns the DTOs it is built from and only ever hands out copies, so callers may
+ * modify what they get without affecting other requests.
+ */
+public final class CatalogSnapshot {
+
+    private final long version;
+
+    private final LocalDate pricedOn;
+
+    private final UnaryOperator<ProductDTO> copier;
+
+    private final List<ProductDTO> products;
+
+    private final Map<String, ProductDTO> byProductID;
+
+    private final Map<Category, List<ProductDTO>> byCategory;
+
+    private final Map<SkinType, List<ProductDTO>> bySkinType;
+
+    public CatalogSnapshot(long version, LocalDate pricedOn, List<ProductDTO> products, UnaryOperator<ProductDTO> copier) {
+        this.version = version;
+        this.pricedOn = pricedOn;
+        this.copier = copier;
+        this.products = List.copyOf(products);
+
+        Map<String, ProductDTO> idIndex = new HashMap<>();
+        Map<Category, List<ProductDTO>> categoryIndex = new EnumMap<>(Category.class);
+        Map<SkinType, List<ProductDTO>> skinTypeIndex = new EnumMap<>(SkinType.class);
+        for (ProductDTO product : this.products) {
+            idIndex.put(product.getProductID(), product);
+            if (product.getCategory() != null) {
+                categoryIndex.computeIfAbsent(product.getCategory(), c -> new ArrayList<>()).add(product);
+            }
+            if (product.getSkinTypes() != null) {
+                for (SkinType skinType : new LinkedHashSet<>(product.getSkinTypes())) {
+                    skinTypeIndex.computeIfAbsent(skinType, s -> new ArrayList<>()).add(product);
+                }
+            }
+        }
+        categoryIndex.replaceAll((category, list) -> List.copyOf(list));
+        skinTypeIndex.replaceAll((skinType, list) -> List.copyOf(list));
+
+        this.byProductID = Collections.unmodifiableMap(idIndex);
+        this.byCategory = Collections.unmodifiableMap(categoryIndex);
+        this.bySkinType = Collections.unmodifiableMap(skinTypeIndex);
+    }
+
+    // New snapshot with products replaced or added and others removed, keeping the catalog order
+    public CatalogSnapshot update(long newVersion, Collection<ProductDTO> upserts, Collection<String> removedIDs) {
+        Map<String, ProductDTO> replacements = new LinkedHashMap<>();
+        upserts.forEach(product -> replacements.put(product.getProductID(), product));
+
+        List<ProductDTO> next = new ArrayList<>(products.size() + replacements.size());
+        for (ProductDTO product : products) {
+            String productID = product.getProductID();
+            if (removedIDs.contains(productID)) {
+                continue;
+            }
+            ProductDTO replacement = replacements.remove(productID);
+            next.add(replacement != null ? replacement : product);
+        }
+        next.addAll(replacements.values());
+        return new CatalogSnapshot(newVersion, pricedOn, next, copier);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDate getPricedOn() {
+        return pricedOn;
+    }
+
+    public List<ProductDTO> getProducts() {
+        return copies(products);
+    }
+
+    // Products matching the predicate, which sees the shared DTOs and must only read them
+    public List<ProductDTO> getProducts(Predicate<? super ProductDTO> filter) {
+        return products.stream().filter(filter).map(copier).toList();
+    }
+
+    public Optional<ProductDTO> getProduct(String productID) {
+        return Optional.ofNullable(byProductID.get(productID)).map(copier);
+    }
+
+    public List<ProductDTO> getByCategory(Category category) {
+        return copies(byCategory.getOrDefault(category, List.of()));
+    }
+
+    public List<ProductDTO> getBySkinType(SkinType skinType) {
+        return copies(bySkinType.getOrDefault(skinType, List.of()));
+    }
+
+    private List<ProductDTO> copies(List<ProductDTO> source) {
+        List<ProductDTO> result = new ArrayList<>(source.size());
+        for (ProductDTO product : source) {
+            result.add(copier.apply(product));
+        }
+        return result;
+    }
+}
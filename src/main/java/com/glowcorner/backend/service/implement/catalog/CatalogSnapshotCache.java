@@ -0,0 +1,155 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.model.DTO.ProductDTO;
+import com.glowcorner.backend.model.mapper.Product.ProductMapper;
+import com.glowcorner.backend.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Read-through holder for the active catalog snapshot.
+ * The snapshot is built on first read and rebuilt from Mongo only when prices roll over to a new
+ * day or another node changed the catalog (CatalogChangedEvent). Writes on this node patch the
+ * affected entries into a new snapshot without reloading the catalog.
+ * The snapshot carries the cluster-wide CatalogVersion it reflects, so every node tags the same
+ * catalog with the same ETag and the tag survives restarts.
+ */
+@Component
+public class CatalogSnapshotCache {
+
+    private final ProductRepository productRepository;
+
+    private final ProductPriceCalculator productPriceCalculator;
+
+    private final ProductMapper productMapper;
+
+    private final CatalogVersion catalogVersion;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+
+    @Value("${catalog.snapshot.enabled:true}")
+    private boolean enabled;
+
+    public CatalogSnapshotCache(ProductRepository productRepository, ProductPriceCalculator productPriceCalculator, ProductMapper productMapper,
+                                CatalogVersion catalogVersion) {
+        this.productRepository = productRepository;
+        this.productPriceCalculator = productPriceCalculator;
+        this.productMapper = productMapper;
+        this.catalogVersion = catalogVersion;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Current snapshot, built on demand
+    public CatalogSnapshot get() {
+        CatalogSnapshot snapshot = current.get();
+        return isStale(snapshot) ? rebuildIfStale() : snapshot;
+    }
+
+    // A product was saved on this node as the given catalog version
+    public synchronized void productChanged(Product product, long version) {
+        CatalogSnapshot snapshot = patchable(version);
+        if (snapshot == null) {
+            return;
+        }
+        if (product.getStatus() == ProductStatus.ACTIVE) {
+            ProductDTO priced = productPriceCalculator.toPricedDTO(product, snapshot.getPricedOn());
+            current.set(snapshot.update(version, List.of(priced), Set.of()));
+        } else {
+            current.set(snapshot.update(version, List.of(), Set.of(product.getProductID())));
+        }
+    }
+
+    // Promotions of these products changed on this node as the given catalog version, after the PromotionIndex was updated
+    public synchronized void promotionsChanged(Collection<String> productIDs, long version) {
+        CatalogSnapshot snapshot = patchable(version);
+        if (snapshot == null) {
+            return;
+        }
+        List<ProductDTO> repriced = new ArrayList<>();
+        if (productIDs != null) {
+            for (String productID : productIDs) {
+                snapshot.getProduct(productID)
+                        .map(product -> productPriceCalculator.applyPromotion(product, snapshot.getPricedOn()))
+                        .ifPresent(repriced::add);
+            }
+        }
+        current.set(snapshot.update(version, repriced, Set.of()));
+    }
+
+    // A write on this node that leaves the active products as they are, such as a routine, took the given catalog version
+    public synchronized void catalogUnchanged(long version) {
+        CatalogSnapshot snapshot = patchable(version);
+        if (snapshot != null) {
+            current.set(snapshot.update(version, List.of(), Set.of()));
+        }
+    }
+
+    /*
+     * Snapshot a local write can be patched into, or null when there is nothing to patch.
+     * A version the snapshot already reached was loaded by a rebuild. A gap means another node
+     * wrote in between, so the catalog is reloaded instead of tagging a partial view with this version.
+     */
+    private CatalogSnapshot patchable(long version) {
+        CatalogSnapshot snapshot = current.get();
+        if (!enabled || isStale(snapshot) || version <= snapshot.getVersion()) {
+            // Not built yet or due for a rebuild, the next read loads the change
+            return null;
+        }
+        if (version != snapshot.getVersion() + 1) {
+            rebuild();
+            return null;
+        }
+        return snapshot;
+    }
+
+    // Products or promotions changed on another node, runs after the PromotionIndex reloaded
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (enabled && current.get() != null) {
+            rebuild();
+        }
+    }
+
+    // Strong ETag for the current snapshot, the same on every node serving the same catalog version and day
+    public String getETag() {
+        CatalogSnapshot snapshot = get();
+        return "\"" + snapshot.getVersion() + "-" + snapshot.getPricedOn() + "\"";
+    }
+
+    private boolean isStale(CatalogSnapshot snapshot) {
+        return snapshot == null || !snapshot.getPricedOn().equals(LocalDate.now());
+    }
+
+    // Concurrent readers of a stale snapshot wait for a single rebuild
+    private synchronized CatalogSnapshot rebuildIfStale() {
+        CatalogSnapshot snapshot = current.get();
+        return isStale(snapshot) ? rebuild() : snapshot;
+    }
+
+    private synchronized CatalogSnapshot rebuild() {
+        LocalDate today = LocalDate.now();
+        // Read before the products, so the snapshot is never tagged newer than its content
+        long version = catalogVersion.current();
+        List<Product> products = productRepository.findByStatus(ProductStatus.ACTIVE);
+        CatalogSnapshot snapshot = new CatalogSnapshot(
+                version,
+                today,
+                productPriceCalculator.toPricedDTOs(products, today),
+                productMapper::copy);
+        current.set(snapshot);
+        return snapshot;
+    }
+}
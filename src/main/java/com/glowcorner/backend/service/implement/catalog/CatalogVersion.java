@@ -0,0 +1,84 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+import com.glowcorner.backend.entity.mongoDB.Counter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cluster-wide catalog version, one document in the counters collection.
+ * Every product, promotion or routine write bumps it. Each node polls it every catalog.version.poll-interval-ms
+ * and publishes CatalogChangedEvent when the version moved past what this node wrote itself,
+ * so the in-memory promotion index and catalog snapshot of every node follow writes made elsewhere.
+ */
+@Slf4j
+@Component
+public class CatalogVersion {
+
+    private static final String COUNTER_ID = "catalogVersion";
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Highest version this node's in-memory views reflect, -1 until the counter could be read
+    private final AtomicLong seen = new AtomicLong(-1);
+
+    public CatalogVersion(MongoTemplate mongoTemplate, ApplicationEventPublisher eventPublisher) {
+        this.mongoTemplate = mongoTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // The in-memory views load from Mongo at startup, so they already reflect the current version
+    @PostConstruct
+    public void init() {
+        try {
+            seen.compareAndSet(-1, current());
+        } catch (RuntimeException e) {
+            log.warn("Could not read catalog version: {}", e.getMessage());
+        }
+    }
+
+    // Current cluster-wide version, 0 before the first write
+    public long current() {
+        Counter counter = mongoTemplate.findById(COUNTER_ID, Counter.class);
+        return counter != null ? counter.getSequence() : 0;
+    }
+
+    // Record a local write and return its version; apply the in-memory effect with that version
+    public long bump() {
+        Counter counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(COUNTER_ID)),
+                new Update().inc("sequence", 1),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                Counter.class);
+        long version = counter.getSequence();
+
+        // Only our own write since the last look: nothing to reload. Otherwise the next poll sees the gap.
+        seen.compareAndSet(version - 1, version);
+        return version;
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.version.poll-interval-ms:5000}")
+    public void poll() {
+        try {
+            long version = current();
+            long previous = seen.getAndAccumulate(version, Math::max);
+            // previous is -1 only when the startup read failed; that first poll just sets the baseline
+            if (previous != -1 && previous < version) {
+                eventPublisher.publishEvent(new CatalogChangedEvent(version));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not poll catalog version: {}", e.getMessage());
+        }
+    }
+}
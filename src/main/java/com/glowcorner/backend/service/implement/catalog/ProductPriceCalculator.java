@@ -0,0 +1,83 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.entity.mongoDB.Promotion;
+import com.glowcorner.backend.model.DTO.ProductDTO;
+import com.glowcorner.backend.model.mapper.Product.ProductMapper;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Maps products to DTOs with their discounted price for a given day.
+ */
+@Component
+public class ProductPriceCalculator {
+
+    private final ProductMapper productMapper;
+
+    private final PromotionIndex promotionIndex;
+
+    public ProductPriceCalculator(ProductMapper productMapper, PromotionIndex promotionIndex) {
+        this.productMapper = productMapper;
+        this.promotionIndex = promotionIndex;
+    }
+
+    // Price of a product after the promotion active on the date
+    public Long discountedPrice(Product product, LocalDate date) {
+        Promotion promotion = promotionIndex.findActive(product.getProductID(), date).orElse(null);
+        return discount(product.getPrice(), promotion != null ? promotion.getDiscount() : null);
+    }
+
+    // Price one product
+    public ProductDTO toPricedDTO(Product product, LocalDate date) {
+        ProductDTO productDTO = productMapper.toDTO(product);
+        Promotion promotion = promotionIndex.findActive(product.getProductID(), date).orElse(null);
+        applyDiscount(productDTO, promotion != null ? promotion.getDiscount() : null);
+        return productDTO;
+    }
+
+    // Recompute the discounted price of a DTO in place
+    public ProductDTO applyPromotion(ProductDTO productDTO, LocalDate date) {
+        Promotion promotion = promotionIndex.findActive(productDTO.getProductID(), date).orElse(null);
+        applyDiscount(productDTO, promotion != null ? promotion.getDiscount() : null);
+        return productDTO;
+    }
+
+    // Price a whole result set in one pass against the promotion index
+    public List<ProductDTO> toPricedDTOs(List<Product> products, LocalDate date) {
+        if (products.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> productIDs = products.stream()
+                .map(Product::getProductID)
+                .toList();
+        Map<String, Promotion> promotions = promotionIndex.findActive(productIDs, date);
+
+        return products.stream()
+                .map(product -> {
+                    ProductDTO productDTO = productMapper.toDTO(product);
+                    Promotion promotion = promotions.get(product.getProductID());
+                    applyDiscount(productDTO, promotion != null ? promotion.getDiscount() : null);
+                    return productDTO;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private void applyDiscount(ProductDTO productDTO, Integer discount) {
+        productDTO.setDiscountedPrice(discount(productDTO.getPrice(), discount));
+    }
+
+    private Long discount(Long price, Integer discount) {
+        if (discount != null && price != null) {
+            return price - (price * discount / 100);
+        }
+        return price;
+    }
+}
@@ -0,0 +1,251 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.repository.ProductRepository;
+import com.glowcorner.backend.utils.TextNormalizer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over product name and description.
+ * Text is accent-folded and tokenized; every token of 3+ characters is also indexed by its trigrams,
+ * so a query word matches tokens that contain it ("duong" finds "duongam") without scanning the collection.
+ * Results must match every query word and are ranked by field weight, match quality and a phrase bonus.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final int GRAM = 3;
+
+    private static final double NAME_WEIGHT = 3.0;
+
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    private final ProductRepository productRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // productID -> indexed document
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    // token -> productID -> weight of the token in that product
+    private final Map<String, Map<String, Double>> postings = new HashMap<>();
+
+    // trigram -> tokens containing it
+    private final Map<String, Set<String>> grams = new HashMap<>();
+
+    // productID -> product indexed while a reload reads Mongo, null when no reload runs; guarded by the lock
+    private Map<String, Product> indexedDuringReload;
+
+    private static class Entry {
+        final String foldedName;
+        // Name tokens joined by single spaces, the form query phrases are built in
+        final String nameTokens;
+        final boolean active;
+        final Set<String> tokens;
+
+        Entry(String foldedName, String nameTokens, boolean active, Set<String> tokens) {
+            this.foldedName = foldedName;
+            this.nameTokens = nameTokens;
+            this.active = active;
+            this.tokens = tokens;
+        }
+    }
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    // Load every product from Mongo
+    @PostConstruct
+    public synchronized void reload() {
+        Map<String, Product> written = new HashMap<>();
+        lock.writeLock().lock();
+        try {
+            indexedDuringReload = written;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            // Read without the lock so searches keep running
+            List<Product> products = productRepository.findAll();
+            lock.writeLock().lock();
+            try {
+                entries.clear();
+                postings.clear();
+                grams.clear();
+                products.forEach(this::add);
+                // Saves indexed on this node while the read ran may be missing from it
+                written.values().forEach(product -> {
+                    unindex(product.getProductID());
+                    add(product);
+                });
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                indexedDuringReload = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // Products changed on another node
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        reload();
+    }
+
+    // Add or replace a product after it was saved
+    public void index(Product product) {
+        lock.writeLock().lock();
+        try {
+            unindex(product.getProductID());
+            add(product);
+            if (indexedDuringReload != null) {
+                indexedDuringReload.put(product.getProductID(), product);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Product IDs matching every word of the query, best match first
+    public List<String> search(String query, boolean activeOnly) {
+        List<String> terms = TextNormalizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        String phrase = String.join(" ", terms);
+
+        lock.readLock().lock();
+        try {
+            Map<String, Double> scores = null;
+            for (String term : new LinkedHashSet<>(terms)) {
+                Map<String, Double> termScores = scoreTerm(term);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((productID, score) -> score + termScores.get(productID));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Map.Entry<String, Double>> ranked = new ArrayList<>();
+            for (Map.Entry<String, Double> score : scores.entrySet()) {
+                Entry entry = entries.get(score.getKey());
+                if (activeOnly && !entry.active) {
+                    continue;
+                }
+                double bonus = entry.nameTokens.contains(phrase) ? NAME_WEIGHT : 0;
+                ranked.add(Map.entry(score.getKey(), score.getValue() + bonus));
+            }
+            ranked.sort(Map.Entry.<String, Double>comparingByValue().reversed()
+                    .thenComparing(score -> entries.get(score.getKey()).foldedName));
+            return ranked.stream().map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Best weight per product for one query word, exact tokens ahead of prefixes ahead of infixes
+    private Map<String, Double> scoreTerm(String term) {
+        Map<String, Double> termScores = new HashMap<>();
+        for (String token : matchingTokens(term)) {
+            double match = token.equals(term) ? 1.0 : token.startsWith(term) ? 0.6 : 0.3;
+            postings.get(token).forEach((productID, weight) -> termScores.merge(productID, weight * match, Math::max));
+        }
+        return termScores;
+    }
+
+    private Collection<String> matchingTokens(String term) {
+        // Too short for a trigram: prefix match over the vocabulary
+        if (term.length() < GRAM) {
+            return postings.keySet().stream().filter(token -> token.startsWith(term)).toList();
+        }
+
+        // Intersect the token sets of every trigram, smallest first, then confirm the substring
+        List<Set<String>> candidates = new ArrayList<>();
+        for (String gram : gramsOf(term)) {
+            Set<String> tokens = grams.get(gram);
+            if (tokens == null) {
+                return List.of();
+            }
+            candidates.add(tokens);
+        }
+        candidates.sort(Comparator.comparingInt(Set::size));
+        List<String> matches = new ArrayList<>();
+        for (String token : candidates.get(0)) {
+            if (token.contains(term)) {
+                matches.add(token);
+            }
+        }
+        return matches;
+    }
+
+    private void add(Product product) {
+        if (product.getProductID() == null) {
+            return;
+        }
+        Map<String, Double> weights = new HashMap<>();
+        List<String> nameTokens = TextNormalizer.tokenize(product.getProductName());
+        nameTokens.forEach(token -> weights.put(token, NAME_WEIGHT));
+        for (String token : new HashSet<>(TextNormalizer.tokenize(product.getDescription()))) {
+            weights.merge(token, DESCRIPTION_WEIGHT, Double::sum);
+        }
+
+        entries.put(product.getProductID(), new Entry(
+                TextNormalizer.fold(product.getProductName()),
+                String.join(" ", nameTokens),
+                product.getStatus() == ProductStatus.ACTIVE,
+                Set.copyOf(weights.keySet())));
+        weights.forEach((token, weight) -> {
+            Map<String, Double> posting = postings.computeIfAbsent(token, t -> new HashMap<>());
+            if (posting.isEmpty()) {
+                gramsOf(token).forEach(gram -> grams.computeIfAbsent(gram, g -> new HashSet<>()).add(token));
+            }
+            posting.put(product.getProductID(), weight);
+        });
+    }
+
+    // Caller holds the write lock
+    private void unindex(String productID) {
+        Entry entry = entries.remove(productID);
+        if (entry == null) {
+            return;
+        }
+        for (String token : entry.tokens) {
+            Map<String, Double> posting = postings.get(token);
+            posting.remove(productID);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+                for (String gram : gramsOf(token)) {
+                    Set<String> tokens = grams.get(gram);
+                    tokens.remove(token);
+                    if (tokens.isEmpty()) {
+                        grams.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<String> gramsOf(String token) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i + GRAM <= token.length(); i++) {
+            result.add(token.substring(i, i + GRAM));
+        }
+        return result;
+    }
+}
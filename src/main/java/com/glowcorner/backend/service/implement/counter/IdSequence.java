@@ -0,0 +1,100 @@
+package com.glowcorner.backend.service.implement.counter;
+
+import com.glowcorner.backend.entity.mongoDB.Counter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hi/lo sequence allocator over the "counters" collection.
+ * Each node leases a block of counter.block-size values with one atomic $inc and hands them
+ * out from memory, so IDs are unique across threads and nodes. Unused values of a block are
+ * skipped after a restart, which leaves gaps but never duplicates: up to block-size - 1 values
+ * per node and restart. The display formats are three digits wide, so the default block size
+ * is 1 (one $inc per value, no gaps); raise it only where the round trip matters more than the gaps.
+ */
+@Component
+public class IdSequence {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final int blockSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    // One lease at a time per sequence; leases of different sequences run in parallel
+    private final Map<String, Object> leaseLocks = new ConcurrentHashMap<>();
+
+    public IdSequence(MongoTemplate mongoTemplate, @Value("${counter.block-size:1}") int blockSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    // Next value of the named sequence
+    public long next(String counterId) {
+        if (blockSize == 1) {
+            return incrementBy(counterId, 1);
+        }
+        while (true) {
+            Block block = blocks.get(counterId);
+            if (block != null) {
+                long value = block.cursor.getAndIncrement();
+                if (value <= block.last) {
+                    return value;
+                }
+            }
+            lease(counterId, block);
+        }
+    }
+
+    // Reserve count consecutive values with one $inc, bypassing the leased block; returns the first
+    public long reserve(String counterId, int count) {
+        return incrementBy(counterId, count) - count + 1;
+    }
+
+    // Drop the local block after the stored sequence was changed by hand
+    public void reset(String counterId) {
+        blocks.remove(counterId);
+    }
+
+    // Replace an exhausted block; threads that lose the race reuse the winner's block
+    private void lease(String counterId, Block exhausted) {
+        synchronized (leaseLocks.computeIfAbsent(counterId, id -> new Object())) {
+            if (blocks.get(counterId) != exhausted) {
+                return;
+            }
+            long last = incrementBy(counterId, blockSize);
+            blocks.put(counterId, new Block(last - blockSize + 1, last));
+        }
+    }
+
+    // Atomically add to the stored sequence and return the new value
+    private long incrementBy(String counterId, int amount) {
+        Counter counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(counterId)),
+                new Update().inc("sequence", amount),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                Counter.class);
+        return counter.getSequence();
+    }
+
+    private static class Block {
+
+        private final AtomicLong cursor;
+
+        private final long last;
+
+        private Block(long first, long last) {
+            this.cursor = new AtomicLong(first);
+            this.last = last;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.glowcorner.backend.service.implement.mail;
+
+import com.glowcorner.backend.entity.mongoDB.MailOutbox;
+import com.glowcorner.backend.enums.Status.MailStatus;
+import com.glowcorner.backend.repository.MailOutboxRepository;
+import com.glowcorner.backend.utils.MongoIndexes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends the mail outbox in the background. Each batch claims up to mail.outbox.batch-size due
+ * mails and hands them to JavaMailSender in one call, which delivers the whole batch over a
+ * single SMTP connection. A run drains at most mail.outbox.max-batches-per-run full batches so a
+ * slow relay does not keep a scheduler thread; the rest waits for the next run. A mail whose
+ * address cannot be parsed fails on its own without holding back the batch. Failed mails are
+ * retried with exponential backoff until mail.outbox.max-attempts, then marked FAILED. A claim is
+ * a lease: mails of a node that died mid-batch become due again once it runs out.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private static final List<MailStatus> QUEUED = List.of(MailStatus.PENDING, MailStatus.SENDING);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    private final JavaMailSender javaMailSender;
+
+    private final Timer sendTime;
+
+    private final Counter sent;
+
+    private final Counter retried;
+
+    private final Counter failed;
+
+    private final AtomicLong depth = new AtomicLong();
+
+    @Value("${mail.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${mail.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.backoff-initial-ms:5000}")
+    private long backoffInitialMillis;
+
+    @Value("${mail.outbox.backoff-max-ms:900000}")
+    private long backoffMaxMillis;
+
+    @Value("${mail.outbox.lease-ms:120000}")
+    private long leaseMillis;
+
+    @Value("${mail.outbox.retention-days:7}")
+    private long retentionDays;
+
+    public MailOutboxDispatcher(MongoTemplate mongoTemplate, MailOutboxRepository mailOutboxRepository,
+                                JavaMailSender javaMailSender, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.javaMailSender = javaMailSender;
+        this.sendTime = meterRegistry.timer("mail.outbox.send");
+        this.sent = meterRegistry.counter("mail.outbox.sent");
+        this.retried = meterRegistry.counter("mail.outbox.failures", "final", "false");
+        this.failed = meterRegistry.counter("mail.outbox.failures", "final", "true");
+        meterRegistry.gauge("mail.outbox.depth", depth);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        MongoIndexes.ensure(mongoTemplate, MailOutbox.class);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void poll() {
+        try {
+            int batches = 1;
+            while (dispatch() == batchSize && batches < maxBatchesPerRun) {
+                // Keep draining while full batches come back
+                batches++;
+            }
+            depth.set(mailOutboxRepository.countByStatusIn(QUEUED));
+        } catch (RuntimeException e) {
+            log.warn("Mail outbox dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    // Claim and send one batch, returns the number of mails claimed
+    public int dispatch() {
+        List<MailOutbox> batch = claimBatch();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<MimeMessage, MailOutbox> messages = new IdentityHashMap<>();
+        for (MailOutbox mail : batch) {
+            try {
+                MimeMessage message = javaMailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message);
+                helper.setTo(mail.getTo());
+                helper.setSubject(mail.getSubject());
+                helper.setText(mail.getText());
+                messages.put(message, mail);
+            } catch (MessagingException e) {
+                // e.g. a malformed address, only this mail fails
+                markFailed(mail, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return batch.size();
+        }
+
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        long start = System.nanoTime();
+        try {
+            javaMailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messages.keySet().forEach(message -> failures.put(message, e));
+            } else {
+                failures.putAll(e.getFailedMessages());
+            }
+        } catch (MailException e) {
+            // Connection or authentication failure, nothing was sent
+            messages.keySet().forEach(message -> failures.put(message, e));
+        } finally {
+            sendTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        messages.forEach((message, mail) -> {
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                markSent(mail);
+            } else {
+                markFailed(mail, failure);
+            }
+        });
+        return batch.size();
+    }
+
+    // Lease due mails one by one so concurrent nodes never claim the same mail
+    private List<MailOutbox> claimBatch() {
+        List<MailOutbox> batch = new ArrayList<>();
+        Date now = new Date();
+        Query due = new Query(Criteria.where("status").in(QUEUED).and("nextAttemptAt").lte(now))
+                .with(Sort.by("nextAttemptAt"));
+        Update claim = new Update()
+                .set("status", MailStatus.SENDING)
+                .set("nextAttemptAt", new Date(now.getTime() + leaseMillis))
+                .inc("attempts", 1);
+        while (batch.size() < batchSize) {
+            MailOutbox mail = mongoTemplate.findAndModify(due, claim, FindAndModifyOptions.options().returnNew(true), MailOutbox.class);
+            if (mail == null) {
+                break;
+            }
+            batch.add(mail);
+        }
+        return batch;
+    }
+
+    private void markSent(MailOutbox mail) {
+        Date now = new Date();
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(mail.getId())), new Update()
+                .set("status", MailStatus.SENT)
+                .set("sentAt", now)
+                .unset("lastError")
+                .set("expiresAt", new Date(now.getTime() + TimeUnit.DAYS.toMillis(retentionDays))), MailOutbox.class);
+        sent.increment();
+    }
+
+    private void markFailed(MailOutbox mail, Exception failure) {
+        Date now = new Date();
+        Update update = new Update().set("lastError", failure.getMessage());
+        if (mail.getAttempts() >= maxAttempts) {
+            update.set("status", MailStatus.FAILED)
+                    .set("expiresAt", new Date(now.getTime() + TimeUnit.DAYS.toMillis(retentionDays)));
+            failed.increment();
+            log.error("Giving up on mail {} to {} after {} attempts: {}", mail.getId(), mail.getTo(), mail.getAttempts(), failure.getMessage());
+        } else {
+            update.set("status", MailStatus.PENDING)
+                    .set("nextAttemptAt", new Date(now.getTime() + backoffMillis(mail.getAttempts())));
+            retried.increment();
+            log.warn("Mail {} attempt {} failed, retrying: {}", mail.getId(), mail.getAttempts(), failure.getMessage());
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(mail.getId())), update, MailOutbox.class);
+    }
+
+    // initial * 2^(attempts - 1), capped
+    private long backoffMillis(int attempts) {
+        int shift = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(backoffMaxMillis, backoffInitialMillis << shift);
+    }
+}
@@ -0,0 +1,83 @@
+package com.glowcorner.backend.service.implement.promotion;
+
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.service.implement.catalog.ProductPriceCalculator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Materializes Product.discountedPrice from the promotion index.
+ * Promotions start and end on whole days, so the price only changes at midnight or on promotion CRUD.
+ * Each run compares the stored price with today's price and bulk-writes only the differences,
+ * which makes it idempotent and lets the startup run catch up after downtime.
+ * Each write is conditional on the price it was computed from; a product whose price changed in
+ * between is left alone, since updateProduct stores the discounted price of the new price itself.
+ */
+@Slf4j
+@Component
+public class PromotionActivationJob {
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ProductPriceCalculator productPriceCalculator;
+
+    public PromotionActivationJob(MongoTemplate mongoTemplate, ProductPriceCalculator productPriceCalculator) {
+        this.mongoTemplate = mongoTemplate;
+        this.productPriceCalculator = productPriceCalculator;
+    }
+
+    // Catch up on boundaries missed while the application was down
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reconcileAll();
+    }
+
+    // Promotions starting today or ending yesterday take effect at midnight
+    @Scheduled(cron = "${promotion.activation.cron:0 0 0 * * *}")
+    public void reconcileAll() {
+        int updated = reconcile(new Query());
+        log.info("Promotion activation updated the discounted price of {} products", updated);
+    }
+
+    // Reconcile the products of a created, updated or deleted promotion
+    public void reconcile(Collection<String> productIDs) {
+        if (productIDs != null && !productIDs.isEmpty()) {
+            reconcile(new Query(Criteria.where("productID").in(productIDs)));
+        }
+    }
+
+    private synchronized int reconcile(Query query) {
+        LocalDate today = LocalDate.now();
+        query.fields().include("productID", "price", "discountedPrice");
+        List<Product> products = mongoTemplate.find(query, Product.class);
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class);
+        int pending = 0;
+        for (Product product : products) {
+            Long discountedPrice = productPriceCalculator.discountedPrice(product, today);
+            if (!Objects.equals(discountedPrice, product.getDiscountedPrice())) {
+                bulkOps.updateOne(
+                        new Query(Criteria.where("productID").is(product.getProductID()).and("price").is(product.getPrice())),
+                        new Update().set("discountedPrice", discountedPrice));
+                pending++;
+            }
+        }
+        if (pending == 0) {
+            return 0;
+        }
+        return bulkOps.execute().getModifiedCount();
+    }
+}
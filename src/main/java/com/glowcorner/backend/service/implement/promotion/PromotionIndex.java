@@ -0,0 +1,117 @@
+package com.glowcorner.backend.service.implement.promotion;
+
+import com.glowcorner.backend.entity.mongoDB.Promotion;
+import com.glowcorner.backend.repository.PromotionRepository;
+import com.glowcorner.backend.service.implement.catalog.CatalogChangedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * In-memory view of every promotion, keyed by productID.
+ * Each product maps to its promotions ordered by start date, so the promotion active on a date
+ * is the floor entry of that date whose end date has not passed (O(log n), no I/O).
+ * Promotions for the same product never overlap (enforced by PromotionServiceImp).
+ * The list of active promotions is answered from all promotions, so one without products still shows.
+ * Writes on this node update it directly, writes on other nodes trigger a reload through CatalogVersion.
+ */
+@Component
+public class PromotionIndex {
+
+    private final PromotionRepository promotionRepository;
+
+    // promotionID -> promotion, the source the per-product view is rebuilt from
+    private final Map<String, Promotion> promotions = new HashMap<>();
+
+    // Immutable snapshots swapped on every write, read without locking
+    private volatile Map<String, NavigableMap<LocalDate, Promotion>> byProduct = Map.of();
+
+    // Every promotion, including those without products or dates that byProduct leaves out
+    private volatile List<Promotion> all = List.of();
+
+    public PromotionIndex(PromotionRepository promotionRepository) {
+        this.promotionRepository = promotionRepository;
+    }
+
+    // Load all promotions from Mongo
+    @PostConstruct
+    public synchronized void reload() {
+        promotions.clear();
+        for (Promotion promotion : promotionRepository.findAll()) {
+            promotions.put(promotion.getPromotionID(), promotion);
+        }
+        rebuild();
+    }
+
+    // Promotions changed on another node
+    // Before CatalogSnapshotCache reprices from this index
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        reload();
+    }
+
+    // Add or replace a promotion after it was saved
+    public synchronized void put(Promotion promotion) {
+        promotions.put(promotion.getPromotionID(), promotion);
+        rebuild();
+    }
+
+    // Drop a promotion after it was deleted
+    public synchronized void remove(String promotionID) {
+        if (promotions.remove(promotionID) != null) {
+            rebuild();
+        }
+    }
+
+    // Active promotion for one product on a date
+    public Optional<Promotion> findActive(String productID, LocalDate date) {
+        NavigableMap<LocalDate, Promotion> intervals = byProduct.get(productID);
+        if (intervals == null) {
+            return Optional.empty();
+        }
+        Map.Entry<LocalDate, Promotion> entry = intervals.floorEntry(date);
+        if (entry == null || entry.getValue().getEndDate().isBefore(date)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.getValue());
+    }
+
+    // Active promotions for a batch of products on a date, keyed by productID
+    public Map<String, Promotion> findActive(Collection<String> productIDs, LocalDate date) {
+        Map<String, Promotion> result = new HashMap<>();
+        for (String productID : productIDs) {
+            findActive(productID, date).ifPresent(promotion -> result.put(productID, promotion));
+        }
+        return result;
+    }
+
+    // Every promotion running on a date, with or without products (startDate <= date <= endDate)
+    public List<Promotion> findActiveOn(LocalDate date) {
+        return all.stream()
+                .filter(promotion -> promotion.getStartDate() != null && !promotion.getStartDate().isAfter(date))
+                .filter(promotion -> promotion.getEndDate() != null && !promotion.getEndDate().isBefore(date))
+                .toList();
+    }
+
+    private void rebuild() {
+        Map<String, NavigableMap<LocalDate, Promotion>> index = new HashMap<>();
+        for (Promotion promotion : promotions.values()) {
+            if (promotion.getProductIDs() == null || promotion.getStartDate() == null || promotion.getEndDate() == null) {
+                continue;
+            }
+            for (String productID : promotion.getProductIDs()) {
+                index.computeIfAbsent(productID, id -> new TreeMap<>())
+                        .put(promotion.getStartDate(), promotion);
+            }
+        }
+        index.replaceAll((productID, intervals) -> Collections.unmodifiableNavigableMap(intervals));
+        byProduct = Collections.unmodifiableMap(index);
+        all = List.copyOf(promotions.values());
+    }
+}
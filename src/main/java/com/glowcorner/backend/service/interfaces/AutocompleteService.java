@@ -0,0 +1,10 @@
+package com.glowcorner.backend.service.interfaces;
+
+import com.glowcorner.backend.model.DTO.SuggestionDTO;
+
+import java.util.List;
+
+public interface AutocompleteService {
+
+    List<SuggestionDTO> suggest(String prefix, Integer limit);
+}
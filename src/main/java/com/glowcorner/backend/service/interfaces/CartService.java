@@ -2,6 +2,10 @@ package com.glowcorner.backend.service.interfaces;
 
 import com.glowcorner.backend.model.DTO.Cart.CartDTO;
 import com.glowcorner.backend.model.DTO.Cart.CartItemDTO;
+import com.glowcorner.backend.model.DTO.request.Cart.AddCartItemRequest;
+
+import java.util.List;
+import java.util.function.Supplier;
 
 public interface CartService {
 
@@ -9,10 +13,18 @@ public interface CartService {
     CartDTO getCartByUserID(String userID);
 
     void addItemToCart(String userID, String productID, int quantity);
+    void addItemsToCart(String userID, List<AddCartItemRequest> items);
+    void addRoutineToCart(String userID, String routineID);
     void removeItemFromCart(String userID, String productID);
     void clearCart(String userID);
 
     /* Cart Item */
     CartItemDTO getCartItem(String userID, String productID);
     void updateCartItem(String userID, String productID, int quantity);
+
+    /* Persist any buffered changes; throws if they could not be written */
+    void flushCart(String userID);
+
+    /* Run the order with the cart persisted and no other change to it until the order returns */
+    <T> T checkout(String userID, Supplier<T> order);
 }
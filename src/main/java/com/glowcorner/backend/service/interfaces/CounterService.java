@@ -1,5 +1,7 @@
 package com.glowcorner.backend.service.interfaces;
 
+import java.util.Iterator;
+
 public interface CounterService {
     String getNextUserID();
     String getNextProductID();
@@ -12,5 +14,8 @@ public interface CounterService {
     String getNextPromotionID();
     String getNextOptionID();
 
+    /* Reserve a contiguous range of IDs with one counter update */
+    Iterator<String> reserveIDs(String counterId, int count);
+
     void updateCounter(String counterId, long sequence);
 }
@@ -0,0 +1,8 @@
+package com.glowcorner.backend.service.interfaces;
+
+public interface MailOutboxService {
+
+    // Store the mail for the background dispatcher and return at once
+    void enqueue(String to, String subject, String text);
+
+}
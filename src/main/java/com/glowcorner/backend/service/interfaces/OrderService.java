@@ -2,6 +2,7 @@ package com.glowcorner.backend.service.interfaces;
 
 import com.glowcorner.backend.enums.PaymentMethod;
 import com.glowcorner.backend.enums.Status.OrderStatus;
+import com.glowcorner.backend.model.DTO.CursorPageDTO;
 import com.glowcorner.backend.model.DTO.Order.OrderDTO;
 import com.glowcorner.backend.model.DTO.Order.OrderDetailDTO;
 import com.glowcorner.backend.model.DTO.Order.OrderInfoDTO;
@@ -27,6 +28,9 @@ public interface OrderService {
     List<OrderDTO> getOrdersByOrderDate(LocalDate orderDate);
     List<OrderDTO> getOrdersByOrderDateAndCustomerID(LocalDate orderDate, String userID);
 
+    /* Order Query, keyset paged newest first; null filters are ignored */
+    CursorPageDTO<OrderDTO> getOrderPage(String customerID, String status, LocalDate orderDate, String cursor, Integer size);
+
     /* OrderDetail CRUD */
     OrderDetailDTO createOrderDetail(String orderID, OrderDetailDTO orderDetailDTO);
     OrderDetailDTO updateOrderDetail(String orderID, String productID, OrderDetailDTO orderDetailDTO);
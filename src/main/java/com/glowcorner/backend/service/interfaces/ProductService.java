@@ -1,9 +1,14 @@
 package com.glowcorner.backend.service.interfaces;
 
 import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.ProductSort;
 import com.glowcorner.backend.enums.SkinType;
+import com.glowcorner.backend.model.DTO.CursorPageDTO;
+import com.glowcorner.backend.model.DTO.FacetedProductsDTO;
 import com.glowcorner.backend.model.DTO.ProductDTO;
+import com.glowcorner.backend.model.DTO.ProductSummaryDTO;
 import com.glowcorner.backend.model.DTO.request.Product.CreateProductRequest;
+import com.glowcorner.backend.model.DTO.request.Product.ProductFilterRequest;
 
 import java.util.List;
 
@@ -22,6 +27,9 @@ public interface ProductService {
                                          Long minPrice,
                                          Long maxPrice);
     List<ProductDTO> getProductsByProductName(String productName);
+    CursorPageDTO<ProductDTO> getProductPage(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size);
+    List<ProductSummaryDTO> getProductSummaries(ProductFilterRequest filter);
+    CursorPageDTO<ProductSummaryDTO> getProductSummaryPage(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size);
 
     // Methods for active products
     List<ProductDTO> getAllActiveProducts();
@@ -33,4 +41,9 @@ public interface ProductService {
                                                List<Category> categories,
                                                Long minPrice,
                                                Long maxPrice);
+    CursorPageDTO<ProductDTO> getActiveProductPage(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size);
+    List<ProductSummaryDTO> getActiveProductSummaries(ProductFilterRequest filter);
+    CursorPageDTO<ProductSummaryDTO> getActiveProductSummaryPage(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size);
+    FacetedProductsDTO getActiveProductFacets(ProductFilterRequest filter, ProductSort sort, String cursor, Integer size);
+    String getActiveCatalogETag();
 }
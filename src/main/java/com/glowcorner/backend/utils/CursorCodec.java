@@ -0,0 +1,43 @@
+package com.glowcorner.backend.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor: base64url of "sort|id|value".
+ * The value is last so it may contain the separator; a missing value is encoded without the "=" marker.
+ */
+public class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    // Paged mode is opt-in so existing clients keep receiving the full list
+    public static boolean isPaged(String cursor, Integer size) {
+        return cursor != null || size != null;
+    }
+
+    // Listings with a sort option page as soon as one is chosen
+    public static boolean isPaged(Object sort, String cursor, Integer size) {
+        return sort != null || isPaged(cursor, size);
+    }
+
+    public static String encode(String sort, String id, Object value) {
+        String raw = sort + SEPARATOR + id + SEPARATOR + (value != null ? "=" + value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns {sort, id, value}; value is null when the encoded value was null
+    public static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || parts[1].isEmpty()) {
+                throw new IllegalArgumentException();
+            }
+            String value = parts[2].startsWith("=") ? parts[2].substring(1) : null;
+            return new String[]{parts[0], parts[1], value};
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+}
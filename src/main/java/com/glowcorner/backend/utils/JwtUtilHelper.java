@@ -1,9 +1,13 @@
 package com.glowcorner.backend.utils;
 
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -12,38 +16,54 @@ import java.util.Date;
 import java.util.Map;
 import java.util.function.Function;
 
+@Slf4j
 @Component
 public class JwtUtilHelper {
 
+    // Tokens are valid for 12 hours
+    public static final long TOKEN_VALIDITY_MILLIS = 1000L * 60 * 60 * 12;
+
     @Value("${jwt.privateKey}") //Anotation Value: Cho phép gọi lấy giá trị của key
     private String privateKey;
 
-    public String generateToken(String data,String role) {
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(privateKey));
+    // Decoded once, the parser is immutable and thread-safe
+    private SecretKey key;
+
+    private JwtParser parser;
+
+    @PostConstruct
+    public void init() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(privateKey));
+        parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+    }
 
+    public String generateToken(String data,String role) {
         return Jwts.builder()
                 .setSubject(data)
                 .addClaims(Map.of("role", role))
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 12)) // Hết hạn sau 1 giờ
+                .setExpiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY_MILLIS)) // Hết hạn sau 1 giờ
                 .signWith(key)
                 .compact();
     }
 
-    public boolean verifyToken(String token) {
+    // Verify the signature and expiry and return the claims in one parse, null when the token is invalid
+    public Claims parseClaims(String token) {
         try {
-            SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(privateKey));
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            System.err.println("JWT verification failed: " + e.getMessage()); // In lỗi ra console
-            return false;
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            // Expected for expired or forged tokens, so not worth more than debug
+            log.debug("JWT verification failed: {}", e.getMessage());
+            return null;
         }
     }
 
+    public boolean verifyToken(String token) {
+        return parseClaims(token) != null;
+    }
+
 
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
@@ -55,11 +75,7 @@ public class JwtUtilHelper {
     }
 
     private Claims getAllClaimsFromToken(String token) {
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(privateKey));
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
+        return parser.parseSignedClaims(token)
                 .getPayload();
     }
 
@@ -0,0 +1,40 @@
+package com.glowcorner.backend.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Creates the indexes declared on an entity class. auto-index-creation is off, so each store
+ * calls this once the application is ready. A failing index is logged and skipped.
+ */
+@Slf4j
+public class MongoIndexes {
+
+    // Returns false if any index could not be created
+    public static boolean ensure(MongoTemplate mongoTemplate, Class<?> entity) {
+        boolean created = true;
+        try {
+            MongoMappingContext mappingContext = (MongoMappingContext) mongoTemplate.getConverter().getMappingContext();
+            IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+            IndexOperations indexOps = mongoTemplate.indexOps(entity);
+            for (IndexDefinition index : resolver.resolveIndexFor(entity)) {
+                try {
+                    indexOps.ensureIndex(index);
+                } catch (RuntimeException e) {
+                    // e.g. a unique index over values duplicated before it existed
+                    log.warn("Could not ensure {} index {}: {}", entity.getSimpleName(), index.getIndexKeys().toJson(), e.getMessage());
+                    created = false;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not ensure {} indexes: {}", entity.getSimpleName(), e.getMessage());
+            return false;
+        }
+        return created;
+    }
+}
@@ -0,0 +1,31 @@
+package com.glowcorner.backend.utils;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public class TextNormalizer {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Lowercase and strip diacritics: "Sữa rửa mặt Đà Lạt" -> "sua rua mat da lat"
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        // đ is a separate letter, not d plus a combining mark, so NFD does not decompose it
+        String lower = text.toLowerCase(Locale.ROOT).replace('đ', 'd');
+        return MARKS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    // Folded words of a text
+    public static List<String> tokenize(String text) {
+        return Arrays.stream(NON_WORD.split(fold(text)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,109 @@
+package com.glowcorner.backend.benchmark;
+
+import com.glowcorner.backend.entity.mongoDB.Cart;
+import com.glowcorner.backend.entity.mongoDB.CartItem;
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.entity.mongoDB.Promotion;
+import com.glowcorner.backend.model.DTO.Cart.CartDTO;
+import com.glowcorner.backend.repository.ProductRepository;
+import com.glowcorner.backend.service.implement.cart.CartPricingEngine;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CartPricingEngine.price on carts of 1 to 200 items against the per-item lookups it replaced
+ * (one product query plus one active-promotion query per item), on a 1k-product catalog in Docker.
+ *
+ * Run: mvn test-compile exec:java -Dexec.classpathScope=test
+ *          -Dexec.mainClass=com.glowcorner.backend.benchmark.CartPricingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CartPricingBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    public int cartSize;
+
+    private MongoBenchmarkContext context;
+
+    private CartPricingEngine cartPricingEngine;
+
+    private ProductRepository productRepository;
+
+    private MongoTemplate mongoTemplate;
+
+    private Cart cart;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MongoBenchmarkContext.start(Map.of(), CartPricingEngine.class, PromotionIndex.class);
+        List<Product> products = CatalogFixtures.products(1000);
+        context.mongoTemplate().insertAll(products);
+        context.mongoTemplate().insertAll(CatalogFixtures.promotions(products));
+        context.bean(PromotionIndex.class).reload();
+        cartPricingEngine = context.bean(CartPricingEngine.class);
+        productRepository = context.bean(ProductRepository.class);
+        mongoTemplate = context.mongoTemplate();
+
+        // Spread over the catalog so about a tenth of the lines are on promotion
+        List<CartItem> items = new ArrayList<>();
+        for (int i = 0; i < cartSize; i++) {
+            Product product = products.get(i * 997 % products.size());
+            CartItem item = new CartItem();
+            item.setProductID(product.getProductID());
+            item.setProductName(product.getProductName());
+            item.setProductPrice(product.getPrice());
+            item.setQuantity(1 + i % 3);
+            items.add(item);
+        }
+        cart = new Cart();
+        cart.setUserID("0001");
+        cart.setItems(items);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CartDTO pricingEngine() {
+        return cartPricingEngine.price(cart, LocalDate.now());
+    }
+
+    // Previous updateCartItemAmounts: two queries per item, totals summed as it goes
+    @Benchmark
+    public long perItemLookups() {
+        LocalDate today = LocalDate.now();
+        long total = 0;
+        for (CartItem item : cart.getItems()) {
+            Product product = productRepository.findByProductID(item.getProductID()).orElseThrow();
+            Promotion promotion = mongoTemplate.findOne(new Query(Criteria.where("startDate").lte(today)
+                    .and("endDate").gte(today)
+                    .and("productIDs").in(item.getProductID())), Promotion.class);
+            long price = promotion != null ? product.getPrice() - product.getPrice() * promotion.getDiscount() / 100 : product.getPrice();
+            total += price * item.getQuantity();
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(CartPricingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package com.glowcorner.backend.benchmark;
+
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.entity.mongoDB.Promotion;
+import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.SkinType;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.model.mapper.CreateMapper.Product.CreateProductRequestMapper;
+import com.glowcorner.backend.model.mapper.Product.ProductMapper;
+import com.glowcorner.backend.service.implement.CounterServiceImpl;
+import com.glowcorner.backend.service.implement.ProductServiceImp;
+import com.glowcorner.backend.service.implement.catalog.*;
+import com.glowcorner.backend.service.implement.counter.IdSequence;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic catalog data shaped like production: long descriptions, a few skin types per
+ * product, 5% disabled products and a promotion on every tenth product.
+ */
+public final class CatalogFixtures {
+
+    // Components behind ProductServiceImp, for MongoBenchmarkContext.start
+    public static final Class<?>[] PRODUCT_SERVICE = {ProductServiceImp.class, ProductMapper.class,
+            ProductPriceCalculator.class, PromotionIndex.class, CatalogSnapshotCache.class, CatalogVersion.class,
+            ProductSearchIndex.class, AutocompleteIndex.class, CatalogFacetCounter.class,
+            CreateProductRequestMapper.class, CounterServiceImpl.class, IdSequence.class};
+
+    private static final String[] WORDS = {"hydrating", "gentle", "brightening", "vitamin", "niacinamide",
+            "ceramide", "green tea", "hyaluronic", "retinol", "soothing", "daily", "oil-free", "barrier", "glow"};
+
+    private CatalogFixtures() {
+    }
+
+    public static List<Product> products(int count) {
+        Random random = new Random(42);
+        Category[] categories = Category.values();
+        SkinType[] skinTypes = SkinType.values();
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Category category = categories[random.nextInt(categories.length)];
+            Product product = new Product();
+            product.setProductID(String.format("P%06d", i));
+            product.setProductName(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                    + " " + category.name().toLowerCase() + " " + i);
+            product.setDescription(description(random));
+            product.setPrice(50_000L + random.nextInt(100) * 10_000L);
+            product.setDiscountedPrice(product.getPrice());
+            product.setCategory(category);
+            product.setSkinTypes(List.of(skinTypes[random.nextInt(skinTypes.length)], skinTypes[random.nextInt(skinTypes.length)]));
+            product.setRating(1 + random.nextInt(40) / 10f);
+            product.setImage_url("https://res.cloudinary.com/glowcorner/image/upload/v1/products/" + product.getProductID() + ".jpg");
+            product.setStatus(random.nextInt(20) == 0 ? ProductStatus.DISABLE : ProductStatus.ACTIVE);
+            products.add(product);
+        }
+        return products;
+    }
+
+    // Insert the catalog and its promotions, then reload the in-memory indexes built at startup
+    public static List<Product> seed(MongoBenchmarkContext context, int count) {
+        List<Product> products = products(count);
+        context.mongoTemplate().insertAll(products);
+        context.mongoTemplate().insertAll(promotions(products));
+        context.bean(PromotionIndex.class).reload();
+        context.bean(ProductSearchIndex.class).reload();
+        return products;
+    }
+
+    public static List<Promotion> promotions(List<Product> products) {
+        LocalDate today = LocalDate.now();
+        List<Promotion> promotions = new ArrayList<>();
+        for (int i = 0; i < products.size(); i += 10) {
+            Promotion promotion = new Promotion();
+            promotion.setPromotionID("PR" + i);
+            promotion.setPromotionName("Promotion " + i);
+            promotion.setProductIDs(List.of(products.get(i).getProductID()));
+            promotion.setDiscount(5 + i % 16);
+            promotion.setStartDate(today.minusDays(3));
+            promotion.setEndDate(today.plusDays(3));
+            promotions.add(promotion);
+        }
+        return promotions;
+    }
+
+    // About 800 characters, the length of a typical product description
+    private static String description(Random random) {
+        StringBuilder description = new StringBuilder();
+        while (description.length() < 800) {
+            description.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return description.toString().trim();
+    }
+}
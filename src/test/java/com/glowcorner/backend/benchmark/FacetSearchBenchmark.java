@@ -0,0 +1,82 @@
+package com.glowcorner.backend.benchmark;
+
+import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.SkinType;
+import com.glowcorner.backend.model.DTO.FacetedProductsDTO;
+import com.glowcorner.backend.model.DTO.request.Product.ProductFilterRequest;
+import com.glowcorner.backend.service.implement.ProductServiceImp;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One faceted search call against the sidebar's previous approach of one getActiveProductsByFilter
+ * call per skin type, category and price band (5 + 6 + 5 calls), with and without the catalog snapshot.
+ *
+ * Run: mvn test-compile exec:java -Dexec.classpathScope=test
+ *          -Dexec.mainClass=com.glowcorner.backend.benchmark.FacetSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FacetSearchBenchmark {
+
+    // Same bands as catalog.facets.price-bounds
+    private static final long[][] PRICE_BANDS = {
+            {0, 100_000}, {100_000, 300_000}, {300_000, 500_000}, {500_000, 1_000_000}, {1_000_000, Long.MAX_VALUE}};
+
+    @Param({"10000"})
+    public int catalogSize;
+
+    @Param({"true", "false"})
+    public String snapshot;
+
+    private MongoBenchmarkContext context;
+
+    private ProductServiceImp productService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MongoBenchmarkContext.start(Map.of("catalog.snapshot.enabled", snapshot), CatalogFixtures.PRODUCT_SERVICE);
+        CatalogFixtures.seed(context, catalogSize);
+        productService = context.bean(ProductServiceImp.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public FacetedProductsDTO facetedSearch() {
+        return productService.getActiveProductFacets(new ProductFilterRequest(), null, null, 20);
+    }
+
+    // Previous sidebar: count every facet value with its own filter call
+    @Benchmark
+    public long callPerFacetValue() {
+        long total = 0;
+        for (SkinType skinType : SkinType.values()) {
+            total += productService.getActiveProductsByFilter(List.of(skinType), null, null, null).size();
+        }
+        for (Category category : Category.values()) {
+            total += productService.getActiveProductsByFilter(null, List.of(category), null, null).size();
+        }
+        for (long[] band : PRICE_BANDS) {
+            total += productService.getActiveProductsByFilter(null, null, band[0], band[1] - 1).size();
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FacetSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,60 @@
+package com.glowcorner.backend.benchmark;
+
+import com.glowcorner.backend.service.implement.counter.IdSequence;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * IdSequence throughput from 8 threads by block size; a block of 1 is one findAndModify per ID,
+ * as the counter service did before leasing. reserveTen takes ten IDs with one $inc, as reserveIDs does.
+ *
+ * Run: mvn test-compile exec:java -Dexec.classpathScope=test
+ *          -Dexec.mainClass=com.glowcorner.backend.benchmark.IdSequenceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class IdSequenceBenchmark {
+
+    @Param({"1", "20", "100"})
+    public int blockSize;
+
+    private MongoBenchmarkContext context;
+
+    private IdSequence idSequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MongoBenchmarkContext.start(Map.of());
+        idSequence = new IdSequence(context.mongoTemplate(), blockSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long next() {
+        return idSequence.next("orderID");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10)
+    public long reserveTen() {
+        return idSequence.reserve("orderDetailID", 10);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(IdSequenceBenchmark.class.getSimpleName()).build()).run();
+    }
+}
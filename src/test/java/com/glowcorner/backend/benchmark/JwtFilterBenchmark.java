@@ -0,0 +1,106 @@
+package com.glowcorner.backend.benchmark;
+
+import com.glowcorner.backend.repository.UserRepository;
+import com.glowcorner.backend.security.CustomJwtFilter;
+import com.glowcorner.backend.security.TokenRevocationStore;
+import com.glowcorner.backend.security.VerifiedTokenCache;
+import com.glowcorner.backend.utils.JwtUtilHelper;
+import com.glowcorner.backend.utils.TokenDigest;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of CustomJwtFilter from 8 threads: a token already in VerifiedTokenCache,
+ * a token verified from scratch, and the two signature checks per request (verifyToken then
+ * getUsernameFromToken) the filter made before the cache. No Mongo is involved.
+ *
+ * Run: mvn test-compile exec:java -Dexec.classpathScope=test
+ *          -Dexec.mainClass=com.glowcorner.backend.benchmark.JwtFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtUtilHelper jwtUtilHelper;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private CustomJwtFilter filter;
+
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtilHelper = new JwtUtilHelper();
+        ReflectionTestUtils.setField(jwtUtilHelper, "privateKey", Encoders.BASE64.encode(Keys.hmacShaKeyFor(new byte[32]).getEncoded()));
+        jwtUtilHelper.init();
+        verifiedTokenCache = new VerifiedTokenCache(10_000, 300);
+
+        filter = new CustomJwtFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtilHelper", jwtUtilHelper);
+        ReflectionTestUtils.setField(filter, "userRepository", Mockito.mock(UserRepository.class));
+        ReflectionTestUtils.setField(filter, "verifiedTokenCache", verifiedTokenCache);
+        ReflectionTestUtils.setField(filter, "tokenRevocationStore", new TokenRevocationStore(Mockito.mock(MongoTemplate.class)));
+
+        token = jwtUtilHelper.generateToken("customer@example.com", "CUSTOMER");
+    }
+
+    // Each thread sends its own token, so evicting it does not touch the other threads' entries
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        private String tokenHash;
+
+        private MockHttpServletRequest request;
+
+        @Setup(Level.Trial)
+        public void setUp(JwtFilterBenchmark benchmark) {
+            String token = benchmark.jwtUtilHelper.generateToken("customer-" + Thread.currentThread().getId() + "@example.com", "CUSTOMER");
+            tokenHash = TokenDigest.sha256(token);
+            // The filter only reads the header and removes its marker attribute afterwards, so the request is reused
+            request = new MockHttpServletRequest("GET", "/api/products");
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+    }
+
+    @Benchmark
+    public Object cachedToken(Exchange exchange) throws Exception {
+        filter.doFilter(exchange.request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object uncachedToken(Exchange exchange) throws Exception {
+        verifiedTokenCache.evict(exchange.tokenHash);
+        filter.doFilter(exchange.request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    // Previous filter: one parse to verify, a second to read the subject
+    @Benchmark
+    public String parseTwice() {
+        return jwtUtilHelper.verifyToken(token) ? jwtUtilHelper.getUsernameFromToken(token) : null;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.glowcorner.backend.benchmark;
+
+import com.glowcorner.backend.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.testcontainers.containers.MongoDBContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A MongoDB container plus a minimal Spring context holding only the given components, for
+ * benchmarks that measure real queries. Nothing scheduled runs and no web server starts.
+ */
+public final class MongoBenchmarkContext implements AutoCloseable {
+
+    private final MongoDBContainer mongo;
+
+    private final ConfigurableApplicationContext context;
+
+    private MongoBenchmarkContext(MongoDBContainer mongo, ConfigurableApplicationContext context) {
+        this.mongo = mongo;
+        this.context = context;
+    }
+
+    public static MongoBenchmarkContext start(Map<String, String> properties, Class<?>... components) {
+        MongoDBContainer mongo = new MongoDBContainer("mongo:7.0");
+        mongo.start();
+
+        // Command-line arguments win over application.properties
+        List<String> args = new ArrayList<>();
+        args.add("--spring.data.mongodb.uri=" + mongo.getReplicaSetUrl("glowcorner_bench"));
+        args.add("--spring.data.mongodb.database=glowcorner_bench");
+        args.add("--spring.data.mongodb.auto-index-creation=true");
+        properties.forEach((key, value) -> args.add("--" + key + "=" + value));
+
+        Class<?>[] sources = new Class<?>[components.length + 1];
+        sources[0] = MongoConfig.class;
+        System.arraycopy(components, 0, sources, 1, components.length);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(sources)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(args.toArray(new String[0]));
+        return new MongoBenchmarkContext(mongo, context);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public MongoTemplate mongoTemplate() {
+        return context.getBean(MongoTemplate.class);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        mongo.stop();
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({MongoAutoConfiguration.class, MongoDataAutoConfiguration.class})
+    @EnableMongoRepositories(basePackageClasses = ProductRepository.class)
+    static class MongoConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.glowcorner.backend.benchmark;
+
+import com.glowcorner.backend.enums.ProductSort;
+import com.glowcorner.backend.model.DTO.CursorPageDTO;
+import com.glowcorner.backend.model.DTO.ProductDTO;
+import com.glowcorner.backend.service.implement.ProductServiceImp;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyset pages against the full active-product list the customer endpoints returned before paging.
+ * The first page and a page 90% into the catalog should cost the same; the full list grows with
+ * the catalog. Runs against MongoDB in Docker with the catalog snapshot off, so every call queries Mongo.
+ *
+ * Run: mvn test-compile exec:java -Dexec.classpathScope=test
+ *          -Dexec.mainClass=com.glowcorner.backend.benchmark.ProductPagingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPagingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int catalogSize;
+
+    @Param({"20"})
+    public int pageSize;
+
+    private MongoBenchmarkContext context;
+
+    private ProductServiceImp productService;
+
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = MongoBenchmarkContext.start(Map.of("catalog.snapshot.enabled", "false"), CatalogFixtures.PRODUCT_SERVICE);
+        CatalogFixtures.seed(context, catalogSize);
+        productService = context.bean(ProductServiceImp.class);
+
+        // Walk to the page 90% into the price order
+        int pages = (int) (catalogSize * 0.9 / pageSize);
+        String cursor = null;
+        for (int i = 0; i < pages; i++) {
+            cursor = productService.getActiveProductPage(null, ProductSort.PRICE, cursor, pageSize).getNextCursor();
+        }
+        deepCursor = cursor;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Previous behaviour: the whole active catalog in one response
+    @Benchmark
+    public List<ProductDTO> fullList() {
+        return productService.getAllActiveProducts();
+    }
+
+    @Benchmark
+    public CursorPageDTO<ProductDTO> firstPage() {
+        return productService.getActiveProductPage(null, ProductSort.PRICE, null, pageSize);
+    }
+
+    @Benchmark
+    public CursorPageDTO<ProductDTO> deepPage() {
+        return productService.getActiveProductPage(null, ProductSort.PRICE, deepCursor, pageSize);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ProductPagingBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,75 @@
+package com.glowcorner.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.glowcorner.backend.model.DTO.request.Product.ProductFilterRequest;
+import com.glowcorner.backend.model.DTO.response.ResponseData;
+import com.glowcorner.backend.service.implement.ProductServiceImp;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full ProductDTO list against the projected summary list on a 10k-product catalog, each measured
+ * from the Mongo query to the serialized JSON body. SampleTime reports p99; the response size of
+ * both modes is printed once per trial.
+ *
+ * Run: mvn test-compile exec:java -Dexec.classpathScope=test
+ *          -Dexec.mainClass=com.glowcorner.backend.benchmark.ProductSummaryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSummaryBenchmark {
+
+    @Param({"10000"})
+    public int catalogSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MongoBenchmarkContext context;
+
+    private ProductServiceImp productService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        context = MongoBenchmarkContext.start(Map.of("catalog.snapshot.enabled", "false"), CatalogFixtures.PRODUCT_SERVICE);
+        CatalogFixtures.seed(context, catalogSize);
+        productService = context.bean(ProductServiceImp.class);
+
+        System.out.printf("Response bytes for %d products: full=%d summary=%d%n",
+                catalogSize, fullList().length, summaryList().length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Previous list endpoint: every field of every product
+    @Benchmark
+    public byte[] fullList() throws JsonProcessingException {
+        return body(productService.getProductsByFilter(null, null, null, null));
+    }
+
+    @Benchmark
+    public byte[] summaryList() throws JsonProcessingException {
+        return body(productService.getProductSummaries(new ProductFilterRequest()));
+    }
+
+    // The body the controllers write
+    private byte[] body(Object data) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(new ResponseData(200, true, "Products retrieved", data, null, null));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ProductSummaryBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,102 @@
+package com.glowcorner.backend.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class PasswordVerifierTest {
+
+    private final BCryptPasswordEncoder encoder = mock(BCryptPasswordEncoder.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch hashing = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+
+    private PasswordVerifier verifier;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        if (verifier != null) {
+            verifier.shutdown();
+        }
+    }
+
+    @Test
+    void hashSlowerThanTheTimeoutStillAnswers() throws Exception {
+        verifier = new PasswordVerifier(encoder, meterRegistry, 1, 1, 50);
+        blockFirstHash();
+
+        Future<Boolean> login = callers.submit(() -> verifier.matches("secret", "hash"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertTrue(login.get(5, TimeUnit.SECONDS));
+        assertEquals(0, meterRegistry.counter("auth.password.rejected").count());
+    }
+
+    @Test
+    void fullQueueIsRejectedAtOnce() throws Exception {
+        verifier = new PasswordVerifier(encoder, meterRegistry, 1, 1, 5000);
+        blockFirstHash();
+
+        Future<Boolean> running = callers.submit(() -> verifier.matches("secret", "hash"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+        Future<Boolean> queued = callers.submit(() -> verifier.matches("secret", "hash"));
+        awaitQueued();
+
+        assertThrows(LoginBusyException.class, () -> verifier.matches("secret", "hash"));
+        assertEquals(1, meterRegistry.counter("auth.password.rejected").count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void checkStillQueuedAtTheDeadlineIsRejectedAndNeverHashed() throws Exception {
+        verifier = new PasswordVerifier(encoder, meterRegistry, 1, 1, 50);
+        blockFirstHash();
+
+        Future<Boolean> running = callers.submit(() -> verifier.matches("secret", "hash"));
+        assertTrue(hashing.await(5, TimeUnit.SECONDS));
+
+        assertThrows(LoginBusyException.class, () -> verifier.matches("other", "hash"));
+        assertEquals(1, meterRegistry.counter("auth.password.rejected").count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        // Let the worker drain the abandoned task before checking it skipped the hash
+        while (meterRegistry.timer("auth.password.queue.wait").count() < 2) {
+            Thread.sleep(10);
+        }
+        verify(encoder, never()).matches(eq("other"), anyString());
+    }
+
+    private void blockFirstHash() {
+        when(encoder.matches(anyString(), anyString())).thenAnswer(invocation -> {
+            hashing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+    }
+
+    private void awaitQueued() throws InterruptedException {
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+    }
+}
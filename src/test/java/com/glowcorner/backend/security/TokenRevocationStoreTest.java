@@ -0,0 +1,110 @@
+package com.glowcorner.backend.security;
+
+import com.glowcorner.backend.entity.mongoDB.User;
+import com.glowcorner.backend.enums.Status.UserStatus;
+import com.glowcorner.backend.support.MongoIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Revocations apply at once on the node that made them and reach other nodes through poll().
+ */
+@Import(TokenRevocationStore.class)
+class TokenRevocationStoreTest extends MongoIntegrationTest {
+
+    private static final String EMAIL = "customer@example.com";
+
+    @Autowired
+    private TokenRevocationStore store;
+
+    // Stands in for a second node sharing the database
+    private TokenRevocationStore otherNode;
+
+    @BeforeEach
+    void startNodes() {
+        User user = new User();
+        user.setUserID("0001");
+        user.setEmail(EMAIL);
+        user.setStatus(UserStatus.ACTIVE);
+        mongoTemplate.insert(user);
+
+        store.load();
+        otherNode = new TokenRevocationStore(mongoTemplate);
+        otherNode.load();
+    }
+
+    @Test
+    void revokedTokenIsDeniedOnEveryNode() {
+        long now = System.currentTimeMillis();
+        store.revokeToken("hash-1", now + 60_000);
+
+        assertThat(store.isRevoked("hash-1", EMAIL, now)).isTrue();
+        assertThat(store.isRevoked("hash-2", EMAIL, now)).isFalse();
+        assertThat(otherNode.isRevoked("hash-1", EMAIL, now)).isFalse();
+
+        otherNode.poll();
+        assertThat(otherNode.isRevoked("hash-1", EMAIL, now)).isTrue();
+    }
+
+    @Test
+    void cutoffCoversTheWholeSecond() {
+        long issuedBefore = System.currentTimeMillis() / 1000 * 1000;
+        store.revokeTokensIssuedBefore(EMAIL);
+        long issuedAfter = (System.currentTimeMillis() / 1000 + 1) * 1000;
+
+        assertThat(store.isRevoked("hash-1", EMAIL, issuedBefore)).isTrue();
+        assertThat(store.isRevoked("hash-1", EMAIL, issuedAfter)).isFalse();
+        assertThat(store.isRevoked("hash-1", "other@example.com", issuedBefore)).isFalse();
+
+        otherNode.poll();
+        assertThat(otherNode.isRevoked("hash-1", EMAIL, issuedBefore)).isTrue();
+        assertThat(otherNode.isRevoked("hash-1", EMAIL, issuedAfter)).isFalse();
+    }
+
+    @Test
+    void disabledUserIsLetBackInOnceReEnabled() {
+        long now = System.currentTimeMillis();
+        setStatus(UserStatus.DISABLE);
+        store.disableUser(EMAIL);
+
+        assertThat(store.isRevoked("hash-1", EMAIL, now)).isTrue();
+        otherNode.poll();
+        assertThat(otherNode.isRevoked("hash-1", EMAIL, now)).isTrue();
+        // A poll after the disable keeps the user out on this node too
+        store.poll();
+        assertThat(store.isRevoked("hash-1", EMAIL, now)).isTrue();
+
+        setStatus(UserStatus.ACTIVE);
+        store.poll();
+        otherNode.poll();
+
+        assertThat(store.isRevoked("hash-1", EMAIL, now)).isFalse();
+        assertThat(otherNode.isRevoked("hash-1", EMAIL, now)).isFalse();
+    }
+
+    @Test
+    void restartLoadsDisabledUsersFromTheirStatus() {
+        setStatus(UserStatus.DISABLE);
+        store.disableUser(EMAIL);
+
+        TokenRevocationStore restarted = new TokenRevocationStore(mongoTemplate);
+        restarted.load();
+        assertThat(restarted.isRevoked("hash-1", EMAIL, System.currentTimeMillis())).isTrue();
+
+        setStatus(UserStatus.ACTIVE);
+        restarted = new TokenRevocationStore(mongoTemplate);
+        restarted.load();
+        assertThat(restarted.isRevoked("hash-1", EMAIL, System.currentTimeMillis())).isFalse();
+    }
+
+    private void setStatus(UserStatus status) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("email").is(EMAIL)), Update.update("status", status), User.class);
+    }
+}
@@ -0,0 +1,40 @@
+package com.glowcorner.backend.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalTokenBucketStoreTest {
+
+    private final LocalTokenBucketStore store = new LocalTokenBucketStore();
+
+    @Test
+    void allowsUpToCapacityThenDeniesWithRetryAfter() {
+        assertTrue(store.tryConsume("login:ip:1", 2, 1).allowed());
+        assertTrue(store.tryConsume("login:ip:1", 2, 1).allowed());
+
+        TokenBucketStore.Decision denied = store.tryConsume("login:ip:1", 2, 1);
+        assertFalse(denied.allowed());
+        // One token a minute, so the next one is about a minute away
+        assertTrue(denied.retryAfterSeconds() >= 59 && denied.retryAfterSeconds() <= 61,
+                "retryAfterSeconds was " + denied.retryAfterSeconds());
+    }
+
+    @Test
+    void bucketsAreKeyedIndependently() {
+        assertTrue(store.tryConsume("login:ip:1", 1, 1).allowed());
+        assertFalse(store.tryConsume("login:ip:1", 1, 1).allowed());
+
+        assertTrue(store.tryConsume("login:ip:2", 1, 1).allowed());
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        // 6000 a minute is one token every 10 ms
+        assertTrue(store.tryConsume("checkout:user:a", 1, 6000).allowed());
+        assertFalse(store.tryConsume("checkout:user:a", 1, 6000).allowed());
+
+        Thread.sleep(50);
+        assertTrue(store.tryConsume("checkout:user:a", 1, 6000).allowed());
+    }
+}
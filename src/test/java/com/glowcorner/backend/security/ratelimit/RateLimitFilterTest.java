@@ -0,0 +1,103 @@
+package com.glowcorner.backend.security.ratelimit;
+
+import com.glowcorner.backend.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RateLimitFilterTest {
+
+    private final TokenBucketStore tokenBucketStore = mock(TokenBucketStore.class);
+
+    private final RateLimitFilter filter = new RateLimitFilter(properties(), tokenBucketStore);
+
+    @Test
+    void allowedRequestReachesTheChain() throws Exception {
+        when(tokenBucketStore.tryConsume("login:ip:10.0.0.1", 10, 10)).thenReturn(new TokenBucketStore.Decision(true, 0));
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(login(), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void deniedRequestGets429WithRetryAfter() throws Exception {
+        when(tokenBucketStore.tryConsume(anyString(), anyInt(), anyInt())).thenReturn(new TokenBucketStore.Decision(false, 30));
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(login(), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(429, response.getStatus());
+        assertEquals("30", response.getHeader(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void failingStoreLetsTheRequestThrough() throws Exception {
+        when(tokenBucketStore.tryConsume(anyString(), anyInt(), anyInt())).thenThrow(new IllegalStateException("mongo down"));
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(login(), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void unmatchedRequestSkipsTheStore() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/products"), new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest());
+        verifyNoInteractions(tokenBucketStore);
+    }
+
+    @Test
+    void zeroCapacityRouteFailsAtBindTime() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+                .withUserConfiguration(RateLimitProperties.class)
+                .withPropertyValues(
+                        "rate-limit.routes[0].name=login",
+                        "rate-limit.routes[0].pattern=/auth/login",
+                        "rate-limit.routes[0].capacity=0",
+                        "rate-limit.routes[0].refill-per-minute=10")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    private RateLimitProperties properties() {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName("login");
+        route.setMethod("POST");
+        route.setPattern("/auth/login");
+        route.setCapacity(10);
+        route.setRefillPerMinute(10);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        return properties;
+    }
+
+    private MockHttpServletRequest login() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
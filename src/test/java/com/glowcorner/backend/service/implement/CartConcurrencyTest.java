@@ -0,0 +1,139 @@
+package com.glowcorner.backend.service.implement;
+
+import com.glowcorner.backend.entity.mongoDB.Cart;
+import com.glowcorner.backend.entity.mongoDB.CartItem;
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.model.DTO.request.Cart.AddCartItemRequest;
+import com.glowcorner.backend.repository.CartRepository;
+import com.glowcorner.backend.service.implement.cart.CartPricingEngine;
+import com.glowcorner.backend.service.implement.cart.CartWriter;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+import com.glowcorner.backend.support.MongoIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cart mutations from many concurrent requests must not lose each other's changes.
+ */
+@Import({CartServiceImp.class, CartWriter.class, CartPricingEngine.class, PromotionIndex.class})
+class CartConcurrencyTest extends MongoIntegrationTest {
+
+    private static final String USER_ID = "0001";
+
+    private static final List<String> PRODUCT_IDS = List.of("1001", "1002", "1003");
+
+    private static final int THREADS = 16;
+
+    private static final int ADDS_PER_THREAD = 50;
+
+    @Autowired
+    private CartServiceImp cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @BeforeEach
+    void seed() {
+        for (int i = 0; i < PRODUCT_IDS.size(); i++) {
+            Product product = new Product();
+            product.setProductID(PRODUCT_IDS.get(i));
+            product.setProductName("Product " + i);
+            product.setPrice(10_000L * (i + 1));
+            product.setStatus(ProductStatus.ACTIVE);
+            mongoTemplate.insert(product);
+        }
+        Cart cart = new Cart();
+        cart.setUserID(USER_ID);
+        cart.setItems(new ArrayList<>());
+        mongoTemplate.insert(cart);
+    }
+
+    @Test
+    void concurrentAddsKeepEveryQuantity() throws Exception {
+        runConcurrently(thread -> {
+            for (int i = 0; i < ADDS_PER_THREAD; i++) {
+                cartService.addItemToCart(USER_ID, PRODUCT_IDS.get((thread + i) % PRODUCT_IDS.size()), 1);
+            }
+        });
+
+        Cart cart = cartRepository.findByUserID(USER_ID).orElseThrow();
+        Map<String, Integer> quantities = cart.getItems().stream()
+                .collect(Collectors.toMap(CartItem::getProductID, CartItem::getQuantity));
+        assertThat(quantities.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(THREADS * ADDS_PER_THREAD);
+        assertThat(quantities).containsOnlyKeys(PRODUCT_IDS);
+        assertThat(cart.getItems()).hasSize(PRODUCT_IDS.size());
+        assertTotals(cart);
+    }
+
+    @Test
+    void concurrentUpdatesOfDifferentLinesDoNotOverwriteEachOther() throws Exception {
+        cartService.addItemsToCart(USER_ID, PRODUCT_IDS.stream()
+                .map(productID -> new AddCartItemRequest(productID, 1))
+                .toList());
+
+        // Each thread owns one line and ends on quantity ADDS_PER_THREAD
+        runConcurrently(thread -> {
+            String productID = PRODUCT_IDS.get(thread % PRODUCT_IDS.size());
+            for (int quantity = 1; quantity <= ADDS_PER_THREAD; quantity++) {
+                cartService.updateCartItem(USER_ID, productID, quantity);
+            }
+        });
+
+        Cart cart = cartRepository.findByUserID(USER_ID).orElseThrow();
+        assertThat(cart.getItems()).allSatisfy(item -> assertThat(item.getQuantity()).isEqualTo(ADDS_PER_THREAD));
+        assertTotals(cart);
+    }
+
+    @Test
+    void addIsOneWriteRoundTrip() {
+        commandCounter.count(() -> cartService.addItemToCart(USER_ID, PRODUCT_IDS.get(0), 2));
+
+        // One product read to price the line, one atomic update
+        assertThat(commandCounter.commands()).containsExactly("find", "findAndModify");
+    }
+
+    private void assertTotals(Cart cart) {
+        long expected = cart.getItems().stream().mapToLong(item -> item.getProductPrice() * item.getQuantity()).sum();
+        assertThat(cart.getTotalAmount()).isEqualTo(expected);
+        assertThat(cart.getItems()).allSatisfy(item ->
+                assertThat(item.getTotalAmount()).isEqualTo(item.getProductPrice() * item.getQuantity()));
+    }
+
+    private interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+
+    // Start every thread at once and fail on the first error
+    private void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                int id = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(id);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
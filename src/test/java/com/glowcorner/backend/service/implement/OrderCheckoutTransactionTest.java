@@ -0,0 +1,154 @@
+package com.glowcorner.backend.service.implement;
+
+import com.glowcorner.backend.config.MongoTransactionConfig;
+import com.glowcorner.backend.entity.mongoDB.Cart;
+import com.glowcorner.backend.entity.mongoDB.CartItem;
+import com.glowcorner.backend.entity.mongoDB.Order;
+import com.glowcorner.backend.entity.mongoDB.OrderDetail;
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.entity.mongoDB.User;
+import com.glowcorner.backend.enums.Role;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.model.mapper.Order.OrderDetailMapper;
+import com.glowcorner.backend.model.mapper.Order.OrderMapper;
+import com.glowcorner.backend.service.implement.cart.CartWriter;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+import com.glowcorner.backend.service.interfaces.CartService;
+import com.glowcorner.backend.service.interfaces.payment.PaymentProcessor;
+import com.glowcorner.backend.support.MongoIntegrationTest;
+import com.mongodb.MongoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Checkout writes the order, its details and the cart clear in one transaction: all of them or none.
+ */
+@Import({OrderServiceImp.class, CartWriter.class, PromotionIndex.class, MongoTransactionConfig.class})
+class OrderCheckoutTransactionTest extends MongoIntegrationTest {
+
+    private static final String USER_ID = "0001";
+
+    private static final String ORDER_ID = "A001";
+
+    private static final List<String> PRODUCT_IDS = List.of("1001", "1002");
+
+    @Autowired
+    private OrderServiceImp orderService;
+
+    @MockitoSpyBean
+    private CartWriter cartWriter;
+
+    @MockitoBean
+    private CartService cartService;
+
+    @MockitoBean
+    private CounterServiceImpl counterService;
+
+    @MockitoBean
+    private OrderMapper orderMapper;
+
+    @MockitoBean
+    private OrderDetailMapper orderDetailMapper;
+
+    @MockitoBean
+    private PaymentProcessor paymentProcessor;
+
+    @BeforeEach
+    void seed() {
+        when(cartService.checkout(eq(USER_ID), any())).thenAnswer(invocation -> invocation.getArgument(1, Supplier.class).get());
+        when(counterService.getNextOrderID()).thenReturn(ORDER_ID);
+
+        User user = new User();
+        user.setUserID(USER_ID);
+        user.setFullName("Customer");
+        user.setEmail("customer@example.com");
+        user.setRole(Role.CUSTOMER);
+        mongoTemplate.insert(user);
+
+        List<CartItem> items = new ArrayList<>();
+        for (String productID : PRODUCT_IDS) {
+            Product product = new Product();
+            product.setProductID(productID);
+            product.setProductName("Product " + productID);
+            product.setPrice(10_000L);
+            product.setStatus(ProductStatus.ACTIVE);
+            mongoTemplate.insert(product);
+
+            CartItem item = new CartItem();
+            item.setUserID(USER_ID);
+            item.setProductID(productID);
+            item.setProductName(product.getProductName());
+            item.setProductPrice(10_000L);
+            item.setQuantity(2);
+            items.add(item);
+        }
+        Cart cart = new Cart();
+        cart.setUserID(USER_ID);
+        cart.setItems(items);
+        mongoTemplate.insert(cart);
+    }
+
+    @Test
+    void orderAndCartClearCommitTogether() {
+        orderService.customerCreateOrder(USER_ID);
+
+        assertThat(mongoTemplate.count(new Query(), Order.class)).isEqualTo(1);
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("orderID").is(ORDER_ID)), OrderDetail.class)).isEqualTo(PRODUCT_IDS.size());
+        assertThat(cartItems()).isEmpty();
+    }
+
+    @Test
+    void failedCartClearRollsBackTheOrder() {
+        doThrow(new IllegalStateException("clear failed")).when(cartWriter).clear(USER_ID);
+
+        assertThatThrownBy(() -> orderService.customerCreateOrder(USER_ID)).hasMessage("clear failed");
+
+        assertThat(mongoTemplate.count(new Query(), Order.class)).isZero();
+        assertThat(mongoTemplate.count(new Query(), OrderDetail.class)).isZero();
+        assertThat(cartItems()).extracting(CartItem::getProductID).containsExactlyElementsOf(PRODUCT_IDS);
+    }
+
+    @Test
+    void transientErrorIsRetriedOnce() {
+        MongoException conflict = new MongoException("WriteConflict");
+        conflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+        doThrow(conflict).doCallRealMethod().when(cartWriter).clear(USER_ID);
+
+        orderService.customerCreateOrder(USER_ID);
+
+        verify(cartWriter, times(2)).clear(USER_ID);
+        assertThat(mongoTemplate.count(new Query(), Order.class)).isEqualTo(1);
+        assertThat(mongoTemplate.count(new Query(), OrderDetail.class)).isEqualTo(PRODUCT_IDS.size());
+        assertThat(cartItems()).isEmpty();
+    }
+
+    @Test
+    void nonTransientErrorIsNotRetried() {
+        doThrow(new MongoException("no label")).when(cartWriter).clear(USER_ID);
+
+        assertThatThrownBy(() -> orderService.customerCreateOrder(USER_ID)).isInstanceOf(MongoException.class);
+
+        verify(cartWriter, times(1)).clear(USER_ID);
+        assertThat(mongoTemplate.count(new Query(), Order.class)).isZero();
+    }
+
+    private List<CartItem> cartItems() {
+        return mongoTemplate.findOne(Query.query(Criteria.where("userID").is(USER_ID)), Cart.class).getItems();
+    }
+}
@@ -0,0 +1,117 @@
+package com.glowcorner.backend.service.implement;
+
+import com.glowcorner.backend.entity.mongoDB.Order;
+import com.glowcorner.backend.entity.mongoDB.OrderDetail;
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.entity.mongoDB.User;
+import com.glowcorner.backend.enums.Status.OrderStatus;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.model.DTO.Order.OrderInfoDTO;
+import com.glowcorner.backend.model.mapper.Order.OrderDetailMapper;
+import com.glowcorner.backend.model.mapper.Order.OrderMapper;
+import com.glowcorner.backend.service.implement.cart.CartWriter;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+import com.glowcorner.backend.service.interfaces.CartService;
+import com.glowcorner.backend.service.interfaces.payment.PaymentProcessor;
+import com.glowcorner.backend.support.MongoIntegrationTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The order info page must cost one aggregation however many lines the order has.
+ */
+@Import({OrderServiceImp.class, PromotionIndex.class})
+class OrderInfoQueryCountTest extends MongoIntegrationTest {
+
+    private static final String USER_ID = "0001";
+
+    private static final String ORDER_ID = "A001";
+
+    @Autowired
+    private OrderServiceImp orderService;
+
+    @MockitoBean
+    private OrderMapper orderMapper;
+
+    @MockitoBean
+    private OrderDetailMapper orderDetailMapper;
+
+    @MockitoBean
+    private PaymentProcessor paymentProcessor;
+
+    @MockitoBean
+    private CounterServiceImpl counterService;
+
+    @MockitoBean
+    private CartService cartService;
+
+    @MockitoBean
+    private CartWriter cartWriter;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 50})
+    void orderInfoIsOneQueryWhateverTheLineCount(int lines) {
+        seed(lines);
+
+        OrderInfoDTO[] info = new OrderInfoDTO[1];
+        int queries = commandCounter.count(() -> info[0] = orderService.getOrderInfoByOrderID(USER_ID, ORDER_ID));
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(commandCounter.commands()).containsExactly("aggregate");
+        assertThat(info[0].getOrderDetails()).hasSize(lines);
+        assertThat(info[0].getCustomerInfo().getName()).isEqualTo("Customer");
+        assertThat(info[0].getTotalAmount()).isEqualTo(lines * 2 * 10_000L);
+    }
+
+    private void seed(int lines) {
+        User user = new User();
+        user.setUserID(USER_ID);
+        user.setFullName("Customer");
+        user.setEmail("customer@example.com");
+        mongoTemplate.insert(user);
+
+        Order order = new Order();
+        order.setOrderID(ORDER_ID);
+        order.setCustomerID(USER_ID);
+        order.setOrderDate(LocalDate.now());
+        order.setStatus(OrderStatus.PENDING);
+        mongoTemplate.insert(order);
+
+        List<Product> products = new ArrayList<>();
+        List<OrderDetail> details = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            String productID = String.valueOf(1001 + i);
+            Product product = new Product();
+            product.setProductID(productID);
+            product.setProductName("Product " + i);
+            product.setPrice(10_000L);
+            product.setStatus(ProductStatus.ACTIVE);
+            products.add(product);
+
+            OrderDetail detail = new OrderDetail();
+            detail.setOrderID(ORDER_ID);
+            detail.setProductID(productID);
+            detail.setProductName(product.getProductName());
+            detail.setProductPrice(10_000L);
+            detail.setQuantity(2);
+            detail.setTotalAmount(20_000L);
+            details.add(detail);
+        }
+        mongoTemplate.insertAll(products);
+        mongoTemplate.insertAll(details);
+        commandCounter.reset();
+    }
+}
@@ -0,0 +1,141 @@
+package com.glowcorner.backend.service.implement;
+
+import com.glowcorner.backend.entity.mongoDB.Order;
+import com.glowcorner.backend.enums.Status.OrderStatus;
+import com.glowcorner.backend.model.DTO.CursorPageDTO;
+import com.glowcorner.backend.model.DTO.Order.OrderDTO;
+import com.glowcorner.backend.model.mapper.Order.OrderDetailMapper;
+import com.glowcorner.backend.model.mapper.Order.OrderMapper;
+import com.glowcorner.backend.service.implement.cart.CartWriter;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+import com.glowcorner.backend.service.interfaces.CartService;
+import com.glowcorner.backend.service.interfaces.payment.PaymentProcessor;
+import com.glowcorner.backend.support.MongoIntegrationTest;
+import com.glowcorner.backend.utils.CursorCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Order keyset paging: newest first, _id breaking ties on the same day, every order exactly once.
+ */
+@Import({OrderServiceImp.class, PromotionIndex.class})
+@TestPropertySource(properties = {"order.page.default-size=3", "order.page.max-size=5"})
+class OrderPagingTest extends MongoIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private OrderServiceImp orderService;
+
+    @MockitoBean
+    private OrderMapper orderMapper;
+
+    @MockitoBean
+    private OrderDetailMapper orderDetailMapper;
+
+    @MockitoBean
+    private PaymentProcessor paymentProcessor;
+
+    @MockitoBean
+    private CounterServiceImpl counterService;
+
+    @MockitoBean
+    private CartService cartService;
+
+    @MockitoBean
+    private CartWriter cartWriter;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void mapOrderIDs() {
+        when(orderMapper.toOrderDTO(any())).thenAnswer(invocation -> {
+            OrderDTO dto = new OrderDTO();
+            dto.setOrderID(invocation.getArgument(0, Order.class).getOrderID());
+            return dto;
+        });
+    }
+
+    @Test
+    void cursorWalksEveryOrderOnceNewestFirst() {
+        // Inserted in this order, so on the same day the later _id comes first
+        seed("A001", DAY.minusDays(1));
+        seed("A002", DAY);
+        seed("A003", DAY);
+        seed("A004", DAY);
+        seed("A005", DAY.plusDays(1));
+        seed("A006", DAY);
+        seed("A007", DAY.minusDays(1));
+
+        List<String> walked = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDTO<OrderDTO> page = orderService.getOrderPage(null, null, null, cursor, 2);
+            page.getItems().forEach(order -> walked.add(order.getOrderID()));
+            pageSizes.add(page.getSize());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).containsExactly("A005", "A006", "A004", "A003", "A002", "A007", "A001");
+        assertThat(pageSizes).containsExactly(2, 2, 2, 1);
+    }
+
+    @Test
+    void pageEndsInsideADayWithoutSkippingItsOtherOrders() {
+        seed("A001", DAY);
+        seed("A002", DAY);
+        seed("A003", DAY);
+
+        CursorPageDTO<OrderDTO> first = orderService.getOrderPage(null, null, DAY, null, 1);
+        CursorPageDTO<OrderDTO> second = orderService.getOrderPage(null, null, DAY, first.getNextCursor(), 5);
+
+        assertThat(first.getItems()).extracting(OrderDTO::getOrderID).containsExactly("A003");
+        assertThat(second.getItems()).extracting(OrderDTO::getOrderID).containsExactly("A002", "A001");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void sizeIsClampedToTheConfiguredBounds() {
+        for (int i = 1; i <= 8; i++) {
+            seed(String.format("A%03d", i), DAY);
+        }
+
+        assertThat(orderService.getOrderPage(null, null, null, null, 50).getSize()).isEqualTo(5);
+        assertThat(orderService.getOrderPage(null, null, null, null, null).getSize()).isEqualTo(3);
+        assertThat(orderService.getOrderPage(null, null, null, null, 0).getSize()).isEqualTo(3);
+        assertThat(orderService.getOrderPage(null, null, null, null, -4).getSize()).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsACursorOfAnotherListing() {
+        String productCursor = CursorCodec.encode("PRICE_ASC", "65f0c0ffee0000000000abcd", 100);
+
+        assertThatThrownBy(() -> orderService.getOrderPage(null, null, null, productCursor, 2))
+                .hasMessage("Cursor does not match order listing");
+    }
+
+    private void seed(String orderID, LocalDate orderDate) {
+        Order order = new Order();
+        order.setOrderID(orderID);
+        order.setCustomerID("0001");
+        order.setOrderDate(orderDate);
+        order.setStatus(OrderStatus.PENDING);
+        mongoTemplate.insert(order);
+    }
+}
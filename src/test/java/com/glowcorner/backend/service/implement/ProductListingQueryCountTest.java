@@ -0,0 +1,127 @@
+package com.glowcorner.backend.service.implement;
+
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.entity.mongoDB.Promotion;
+import com.glowcorner.backend.enums.Category;
+import com.glowcorner.backend.enums.SkinType;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.model.DTO.ProductDTO;
+import com.glowcorner.backend.model.mapper.CreateMapper.Product.CreateProductRequestMapper;
+import com.glowcorner.backend.model.mapper.Product.ProductMapper;
+import com.glowcorner.backend.service.implement.catalog.AutocompleteIndex;
+import com.glowcorner.backend.service.implement.catalog.CatalogFacetCounter;
+import com.glowcorner.backend.service.implement.catalog.CatalogSnapshotCache;
+import com.glowcorner.backend.service.implement.catalog.CatalogVersion;
+import com.glowcorner.backend.service.implement.catalog.ProductPriceCalculator;
+import com.glowcorner.backend.service.implement.catalog.ProductSearchIndex;
+import com.glowcorner.backend.service.implement.promotion.PromotionIndex;
+import com.glowcorner.backend.support.MongoIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listing calls must cost the same number of Mongo queries whatever the catalog size:
+ * promotions come from the in-memory index, never from one lookup per product.
+ */
+@Import({ProductServiceImp.class, ProductMapper.class, ProductPriceCalculator.class, PromotionIndex.class,
+        CatalogSnapshotCache.class, CatalogVersion.class, ProductSearchIndex.class, AutocompleteIndex.class, CatalogFacetCounter.class})
+@TestPropertySource(properties = "catalog.snapshot.enabled=false")
+class ProductListingQueryCountTest extends MongoIntegrationTest {
+
+    @Autowired
+    private ProductServiceImp productService;
+
+    @Autowired
+    private PromotionIndex promotionIndex;
+
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+
+    @MockitoBean
+    private CreateProductRequestMapper createProductRequestMapper;
+
+    private int seeded;
+
+    @Test
+    void listingQueryCountDoesNotGrowWithCatalogSize() {
+        Map<String, Runnable> listings = Map.of(
+                "getAllProducts", () -> productService.getAllProducts(),
+                "getProductsByCategory", () -> productService.getProductsByCategory(Category.values()[0]),
+                "getProductsBySkinType", () -> productService.getProductsBySkinType(SkinType.values()[0]),
+                "getProductsByFilter", () -> productService.getProductsByFilter(null, null, 0L, Long.MAX_VALUE),
+                "getAllActiveProducts", () -> productService.getAllActiveProducts(),
+                "getActiveProductsByFilter", () -> productService.getActiveProductsByFilter(null, null, 0L, Long.MAX_VALUE),
+                "getActiveProductsByProductName", () -> productService.getActiveProductsByProductName("serum"));
+
+        seed(10);
+        Map<String, Integer> small = countQueries(listings);
+        seed(490);
+        Map<String, Integer> large = countQueries(listings);
+
+        assertThat(large).isEqualTo(small);
+        assertThat(small.values()).allMatch(queries -> queries == 1);
+    }
+
+    @Test
+    void listingAppliesActivePromotions() {
+        seed(10);
+
+        List<ProductDTO> products = productService.getAllProducts();
+
+        // Every even product is on a 20% promotion
+        assertThat(products).hasSize(10).allSatisfy(product -> {
+            int index = Integer.parseInt(product.getProductID().substring(1));
+            long expected = index % 2 == 0 ? product.getPrice() - product.getPrice() * 20 / 100 : product.getPrice();
+            assertThat(product.getDiscountedPrice()).isEqualTo(expected);
+        });
+    }
+
+    private Map<String, Integer> countQueries(Map<String, Runnable> listings) {
+        Map<String, Integer> counts = new TreeMap<>();
+        listings.forEach((name, listing) -> counts.put(name, commandCounter.count(listing)));
+        return counts;
+    }
+
+    // Add products, every other one on a promotion running today
+    private void seed(int count) {
+        LocalDate today = LocalDate.now();
+        List<Product> products = new ArrayList<>();
+        List<Promotion> promotions = new ArrayList<>();
+        for (int i = seeded; i < seeded + count; i++) {
+            Product product = new Product();
+            product.setProductID("P" + i);
+            product.setProductName("Hydrating serum " + i);
+            product.setPrice(100_000L + i);
+            product.setCategory(Category.values()[0]);
+            product.setSkinTypes(List.of(SkinType.values()[0]));
+            product.setStatus(ProductStatus.ACTIVE);
+            products.add(product);
+
+            if (i % 2 == 0) {
+                Promotion promotion = new Promotion();
+                promotion.setPromotionID("PR" + i);
+                promotion.setProductIDs(List.of(product.getProductID()));
+                promotion.setDiscount(20);
+                promotion.setStartDate(today.minusDays(1));
+                promotion.setEndDate(today.plusDays(1));
+                promotions.add(promotion);
+            }
+        }
+        seeded += count;
+        mongoTemplate.insertAll(products);
+        mongoTemplate.insertAll(promotions);
+        promotionIndex.reload();
+        productSearchIndex.reload();
+    }
+}
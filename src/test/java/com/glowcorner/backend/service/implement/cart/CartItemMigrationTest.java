@@ -0,0 +1,66 @@
+package com.glowcorner.backend.service.implement.cart;
+
+import com.glowcorner.backend.entity.mongoDB.Cart;
+import com.glowcorner.backend.entity.mongoDB.CartItem;
+import com.glowcorner.backend.support.MongoIntegrationTest;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Legacy cartItem documents are dropped, never folded back into carts.
+ */
+@Import(CartItemMigration.class)
+class CartItemMigrationTest extends MongoIntegrationTest {
+
+    @Autowired
+    private CartItemMigration cartItemMigration;
+
+    @Test
+    void dropsLegacyLinesWithoutTouchingCarts() {
+        Cart cart = new Cart();
+        cart.setUserID("0001");
+        cart.setItems(new ArrayList<>(List.of(line("0001", "1001", 2))));
+        mongoTemplate.insert(cart);
+
+        // 1002 was removed from the cart and 0002 checked out, both only left behind in the legacy collection
+        mongoTemplate.getCollection("cartItem").insertMany(List.of(
+                new Document("userID", "0001").append("productID", "1001").append("quantity", 2),
+                new Document("userID", "0001").append("productID", "1002").append("quantity", 1),
+                new Document("userID", "0002").append("productID", "1003").append("quantity", 4)));
+
+        cartItemMigration.migrate();
+
+        assertThat(mongoTemplate.collectionExists("cartItem")).isFalse();
+        List<Cart> carts = mongoTemplate.findAll(Cart.class);
+        assertThat(carts).singleElement().satisfies(migrated -> {
+            assertThat(migrated.getUserID()).isEqualTo("0001");
+            assertThat(migrated.getItems()).extracting(CartItem::getProductID).containsExactly("1001");
+            assertThat(migrated.getItems().get(0).getQuantity()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void doesNothingWithoutLegacyCollection() {
+        mongoTemplate.dropCollection("cartItem");
+
+        cartItemMigration.migrate();
+
+        assertThat(mongoTemplate.collectionExists("cartItem")).isFalse();
+        assertThat(mongoTemplate.findAll(Cart.class)).isEmpty();
+    }
+
+    private CartItem line(String userID, String productID, int quantity) {
+        CartItem line = new CartItem();
+        line.setUserID(userID);
+        line.setProductID(productID);
+        line.setQuantity(quantity);
+        return line;
+    }
+}
@@ -0,0 +1,49 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+import com.glowcorner.backend.entity.mongoDB.Counter;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CatalogVersionTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+    private final CatalogVersion catalogVersion = new CatalogVersion(mongoTemplate, eventPublisher);
+
+    @Test
+    void firstPollAfterStartupDoesNotReload() {
+        when(mongoTemplate.findById("catalogVersion", Counter.class)).thenReturn(counter(7));
+        catalogVersion.init();
+
+        catalogVersion.poll();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        when(mongoTemplate.findById("catalogVersion", Counter.class)).thenReturn(counter(8));
+        catalogVersion.poll();
+        verify(eventPublisher).publishEvent(new CatalogChangedEvent(8));
+    }
+
+    @Test
+    void failedStartupReadOnlySetsTheBaseline() {
+        when(mongoTemplate.findById("catalogVersion", Counter.class))
+                .thenThrow(new IllegalStateException("down"))
+                .thenReturn(counter(7));
+        catalogVersion.init();
+
+        catalogVersion.poll();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private Counter counter(long sequence) {
+        Counter counter = new Counter();
+        counter.setId("catalogVersion");
+        counter.setSequence(sequence);
+        return counter;
+    }
+}
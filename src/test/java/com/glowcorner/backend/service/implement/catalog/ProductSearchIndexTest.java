@@ -0,0 +1,63 @@
+package com.glowcorner.backend.service.implement.catalog;
+
+import com.glowcorner.backend.entity.mongoDB.Product;
+import com.glowcorner.backend.enums.Status.ProductStatus;
+import com.glowcorner.backend.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductSearchIndexTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+
+    @Test
+    void phraseBonusIgnoresPunctuationInTheName() {
+        // Same words and weights; without the bonus the alphabetical tie-break puts P2 first
+        when(productRepository.findAll()).thenReturn(List.of(
+                product("P1", "Anti-aging night cream"),
+                product("P2", "Aging care cream, anti spot")));
+        ProductSearchIndex index = new ProductSearchIndex(productRepository);
+        index.reload();
+
+        assertThat(index.search("anti aging", true)).containsExactly("P1", "P2");
+    }
+
+    @Test
+    void everyQueryWordMustMatch() {
+        when(productRepository.findAll()).thenReturn(List.of(
+                product("P1", "Sữa rửa mặt trà xanh"),
+                product("P2", "Sữa dưỡng ẩm")));
+        ProductSearchIndex index = new ProductSearchIndex(productRepository);
+        index.reload();
+
+        assertThat(index.search("sua rua", true)).containsExactly("P1");
+        assertThat(index.search("sua", true)).containsExactlyInAnyOrder("P1", "P2");
+    }
+
+    @Test
+    void saveIndexedDuringReloadSurvivesTheSwap() {
+        ProductSearchIndex index = new ProductSearchIndex(productRepository);
+        // The read returns the old name while the save lands on this node
+        when(productRepository.findAll()).thenAnswer(invocation -> {
+            index.index(product("P1", "Kem chống nắng"));
+            return List.of(product("P1", "Sữa rửa mặt"));
+        });
+        index.reload();
+
+        assertThat(index.search("chong nang", true)).containsExactly("P1");
+        assertThat(index.search("rua mat", true)).isEmpty();
+    }
+
+    private Product product(String productID, String name) {
+        Product product = new Product();
+        product.setProductID(productID);
+        product.setProductName(name);
+        product.setStatus(ProductStatus.ACTIVE);
+        return product;
+    }
+}
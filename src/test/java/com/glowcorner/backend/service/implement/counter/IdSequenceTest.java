@@ -0,0 +1,148 @@
+package com.glowcorner.backend.service.implement.counter;
+
+import com.glowcorner.backend.service.implement.CounterServiceImpl;
+import com.glowcorner.backend.support.MongoIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Block leasing must hand out every value once, across threads and across nodes sharing the counter.
+ */
+@Import({IdSequence.class, CounterServiceImpl.class})
+@TestPropertySource(properties = "counter.block-size=" + IdSequenceTest.BLOCK_SIZE)
+class IdSequenceTest extends MongoIntegrationTest {
+
+    static final int BLOCK_SIZE = 20;
+
+    private static final int THREADS = 16;
+
+    private static final int IDS_PER_THREAD = 100;
+
+    @Autowired
+    private IdSequence idSequence;
+
+    @Autowired
+    private CounterServiceImpl counterService;
+
+    // The context outlives the cleaned database, so drop blocks leased by earlier tests
+    @BeforeEach
+    void dropLeasedBlocks() {
+        idSequence.reset("orderID");
+        idSequence.reset("orderDetailID");
+        idSequence.reset("routineID");
+    }
+
+    @Test
+    void concurrentNextValuesAreUniqueAndLeasedInBlocks() throws Exception {
+        List<Long> values = collectConcurrently(thread -> idSequence.next("orderID"));
+
+        int total = THREADS * IDS_PER_THREAD;
+        assertThat(Set.copyOf(values)).hasSize(total);
+        // Every leased block is used up, so no value is skipped either
+        assertThat(values).containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, total).boxed().toList());
+        assertThat(commandCounter.commands()).filteredOn("findAndModify"::equals).hasSize(total / BLOCK_SIZE);
+    }
+
+    @Test
+    void nodesSharingTheCounterNeverOverlap() throws Exception {
+        // Two allocators stand in for two nodes with their own leased blocks
+        IdSequence other = new IdSequence(mongoTemplate, BLOCK_SIZE);
+        List<Long> values = collectConcurrently(thread -> (thread % 2 == 0 ? idSequence : other).next("orderID"));
+
+        assertThat(Set.copyOf(values)).hasSize(values.size());
+    }
+
+    @Test
+    void sequencesLeaseIndependently() throws Exception {
+        List<Long> values = collectConcurrently(thread -> idSequence.next(thread % 2 == 0 ? "orderID" : "routineID"));
+
+        int perSequence = THREADS * IDS_PER_THREAD / 2;
+        assertThat(values).containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, perSequence)
+                .boxed().flatMap(value -> Stream.of(value, value)).toList());
+    }
+
+    @Test
+    void singleValueBlocksLeaveNoGapAcrossRestarts() {
+        assertThat(new IdSequence(mongoTemplate, 1).next("routineID")).isEqualTo(1);
+        // A restarted node has no block to lose
+        assertThat(new IdSequence(mongoTemplate, 1).next("routineID")).isEqualTo(2);
+    }
+
+    @Test
+    void reserveTakesARangePastTheLeasedBlock() {
+        assertThat(idSequence.next("orderID")).isEqualTo(1);
+
+        assertThat(idSequence.reserve("orderID", 5)).isEqualTo(BLOCK_SIZE + 1);
+        // The leased block is still served from memory
+        assertThat(idSequence.next("orderID")).isEqualTo(2);
+        assertThat(idSequence.reserve("orderID", 1)).isEqualTo(BLOCK_SIZE + 6);
+    }
+
+    @Test
+    void reserveIDsFormatsEveryValueOfOneRange() {
+        int queries = commandCounter.count(() -> {
+            Iterator<String> ids = counterService.reserveIDs("orderDetailID", 3);
+            assertThat(ids).toIterable().containsExactly("B001", "B002", "B003");
+        });
+
+        assertThat(queries).isEqualTo(1);
+        assertThat(counterService.reserveIDs("orderDetailID", 0)).isExhausted();
+        assertThatThrownBy(() -> counterService.reserveIDs("unknownID", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void updateCounterDropsTheLeasedBlock() {
+        assertThat(counterService.getNextOrderID()).isEqualTo("A001");
+
+        counterService.updateCounter("orderID", 100);
+
+        assertThat(counterService.getNextOrderID()).isEqualTo("A101");
+    }
+
+    private interface ThreadTask {
+        long next(int thread);
+    }
+
+    // Every thread draws IDS_PER_THREAD values, all starting at once
+    private List<Long> collectConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                int id = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> drawn = new ArrayList<>(IDS_PER_THREAD);
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        drawn.add(task.next(id));
+                    }
+                    return drawn;
+                }));
+            }
+            start.countDown();
+            List<Long> values = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                values.addAll(future.get(60, TimeUnit.SECONDS));
+            }
+            return values;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
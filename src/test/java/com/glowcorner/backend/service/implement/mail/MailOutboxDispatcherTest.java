@@ -0,0 +1,165 @@
+package com.glowcorner.backend.service.implement.mail;
+
+import com.glowcorner.backend.config.MailConfig;
+import com.glowcorner.backend.entity.mongoDB.MailOutbox;
+import com.glowcorner.backend.enums.Status.MailStatus;
+import com.glowcorner.backend.support.MongoIntegrationTest;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The dispatcher against an in-process SMTP server: batches are delivered, a broken mail fails
+ * alone and backs off, and a mail is given up after mail.outbox.max-attempts.
+ */
+@Import({MailOutboxDispatcher.class, MailConfig.class, MailOutboxDispatcherTest.MetricsConfig.class})
+@TestPropertySource(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.username=",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "spring.mail.properties.mail.smtp.starttls.required=false",
+        "mail.outbox.batch-size=" + MailOutboxDispatcherTest.BATCH_SIZE,
+        "mail.outbox.max-batches-per-run=2",
+        "mail.outbox.max-attempts=" + MailOutboxDispatcherTest.MAX_ATTEMPTS,
+        "mail.outbox.backoff-initial-ms=" + MailOutboxDispatcherTest.BACKOFF_MILLIS})
+class MailOutboxDispatcherTest extends MongoIntegrationTest {
+
+    static final int BATCH_SIZE = 5;
+
+    static final int MAX_ATTEMPTS = 3;
+
+    static final long BACKOFF_MILLIS = 60_000;
+
+    // Unbalanced bracket, rejected when the message is built
+    private static final String MALFORMED_ADDRESS = "<broken@example.com";
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @DynamicPropertySource
+    static void smtpProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.port", ServerSetupTest.SMTP::getPort);
+    }
+
+    @Autowired
+    private MailOutboxDispatcher dispatcher;
+
+    @Test
+    void sendsABatchAndMarksItSent() {
+        List<MailOutbox> mails = IntStream.range(0, 3).mapToObj(i -> queue("user" + i + "@example.com")).toList();
+
+        assertThat(dispatcher.dispatch()).isEqualTo(3);
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(3);
+        assertThat(mails).allSatisfy(mail -> {
+            MailOutbox stored = reload(mail);
+            assertThat(stored.getStatus()).isEqualTo(MailStatus.SENT);
+            assertThat(stored.getSentAt()).isNotNull();
+            assertThat(stored.getExpiresAt()).isNotNull();
+        });
+    }
+
+    @Test
+    void aBrokenMailFailsAloneAndBacksOff() {
+        MailOutbox good = queue("good@example.com");
+        MailOutbox broken = queue(MALFORMED_ADDRESS);
+
+        long before = System.currentTimeMillis();
+        dispatcher.dispatch();
+        long after = System.currentTimeMillis();
+
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(reload(good).getStatus()).isEqualTo(MailStatus.SENT);
+
+        MailOutbox retry = reload(broken);
+        assertThat(retry.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getLastError()).isNotBlank();
+        // First retry waits backoff-initial-ms
+        assertThat(retry.getNextAttemptAt().getTime()).isBetween(before + BACKOFF_MILLIS, after + BACKOFF_MILLIS);
+
+        // Not due yet, so the next run leaves it alone
+        assertThat(dispatcher.dispatch()).isZero();
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        MailOutbox broken = queue(MALFORMED_ADDRESS);
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            makeDue(broken);
+            assertThat(dispatcher.dispatch()).isEqualTo(1);
+        }
+
+        MailOutbox failed = reload(broken);
+        assertThat(failed.getStatus()).isEqualTo(MailStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(failed.getExpiresAt()).isNotNull();
+
+        makeDue(broken);
+        assertThat(dispatcher.dispatch()).isZero();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void aRunDrainsAtMostMaxBatches() {
+        IntStream.range(0, BATCH_SIZE * 3).forEach(i -> queue("user" + i + "@example.com"));
+
+        dispatcher.poll();
+
+        // Two full batches this run, the third waits for the next one
+        assertThat(greenMail.getReceivedMessages()).hasSize(BATCH_SIZE * 2);
+        assertThat(mongoTemplate.findAll(MailOutbox.class))
+                .filteredOn(mail -> mail.getStatus() == MailStatus.PENDING)
+                .hasSize(BATCH_SIZE);
+    }
+
+    private MailOutbox queue(String to) {
+        MailOutbox mail = new MailOutbox();
+        mail.setTo(to);
+        mail.setSubject("Subject");
+        mail.setText("Body");
+        mail.setStatus(MailStatus.PENDING);
+        mail.setNextAttemptAt(new Date());
+        mail.setCreatedAt(new Date());
+        return mongoTemplate.insert(mail);
+    }
+
+    // Skip the backoff wait, keeping the attempt count
+    private void makeDue(MailOutbox mail) {
+        MailOutbox stored = reload(mail);
+        stored.setNextAttemptAt(new Date());
+        mongoTemplate.save(stored);
+    }
+
+    private MailOutbox reload(MailOutbox mail) {
+        return mongoTemplate.findById(mail.getId(), MailOutbox.class);
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
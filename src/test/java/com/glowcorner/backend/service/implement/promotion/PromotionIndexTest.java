@@ -0,0 +1,47 @@
+package com.glowcorner.backend.service.implement.promotion;
+
+import com.glowcorner.backend.entity.mongoDB.Promotion;
+import com.glowcorner.backend.repository.PromotionRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PromotionIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    private final PromotionRepository promotionRepository = mock(PromotionRepository.class);
+
+    @Test
+    void activePromotionsIncludeThoseWithoutProducts() {
+        when(promotionRepository.findAll()).thenReturn(List.of(
+                promotion("P001", List.of("1001"), TODAY.minusDays(1), TODAY.plusDays(1)),
+                promotion("P002", null, TODAY.minusDays(1), TODAY.plusDays(1)),
+                promotion("P003", List.of(), TODAY, TODAY),
+                promotion("P004", List.of("1002"), TODAY.plusDays(1), TODAY.plusDays(2)),
+                promotion("P005", List.of("1003"), null, TODAY)));
+        PromotionIndex index = new PromotionIndex(promotionRepository);
+        index.reload();
+
+        assertThat(index.findActiveOn(TODAY)).extracting(Promotion::getPromotionID)
+                .containsExactlyInAnyOrder("P001", "P002", "P003");
+        // Per-product pricing only sees promotions that name the product
+        assertThat(index.findActive("1001", TODAY)).isPresent();
+        assertThat(index.findActive("1002", TODAY)).isEmpty();
+    }
+
+    private Promotion promotion(String promotionID, List<String> productIDs, LocalDate startDate, LocalDate endDate) {
+        Promotion promotion = new Promotion();
+        promotion.setPromotionID(promotionID);
+        promotion.setProductIDs(productIDs);
+        promotion.setDiscount(10);
+        promotion.setStartDate(startDate);
+        promotion.setEndDate(endDate);
+        return promotion;
+    }
+}
@@ -0,0 +1,45 @@
+package com.glowcorner.backend.support;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Records the commands the Mongo driver sends, so tests can assert round trips per call.
+ */
+public class MongoCommandCounter implements CommandListener {
+
+    // Cursor continuations of a query already counted
+    private static final Set<String> CONTINUATIONS = Set.of("getMore", "killCursors");
+
+    private final List<String> commands = new ArrayList<>();
+
+    @Override
+    public synchronized void commandStarted(CommandStartedEvent event) {
+        commands.add(event.getCommandName());
+    }
+
+    public synchronized void reset() {
+        commands.clear();
+    }
+
+    // Commands sent since the last reset
+    public synchronized List<String> commands() {
+        return new ArrayList<>(commands);
+    }
+
+    // Round trips that start a new operation, getMore batches excluded
+    public synchronized int queryCount() {
+        return (int) commands.stream().filter(name -> !CONTINUATIONS.contains(name)).count();
+    }
+
+    // Queries issued by the action
+    public int count(Runnable action) {
+        reset();
+        action.run();
+        return queryCount();
+    }
+}
@@ -0,0 +1,66 @@
+package com.glowcorner.backend.support;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base for tests that need a real MongoDB: a single-node replica set (transactions work) shared
+ * by every test class, an empty database per test and a command counter on the client.
+ * Skipped when Docker is not available.
+ */
+@DataMongoTest(properties = {
+        "spring.data.mongodb.database=glowcorner_test",
+        "spring.data.mongodb.auto-index-creation=true"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Import(MongoIntegrationTest.CommandCounterConfig.class)
+public abstract class MongoIntegrationTest {
+
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    @Autowired
+    protected MongoTemplate mongoTemplate;
+
+    @Autowired
+    protected MongoCommandCounter commandCounter;
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        // Started once per JVM, no-op when already running
+        MONGO.start();
+        registry.add("spring.data.mongodb.uri", () -> MONGO.getReplicaSetUrl("glowcorner_test"));
+    }
+
+    @BeforeEach
+    void cleanDatabase() {
+        for (String collection : mongoTemplate.getCollectionNames()) {
+            mongoTemplate.getCollection(collection).deleteMany(new Document());
+        }
+        commandCounter.reset();
+    }
+
+    @TestConfiguration
+    static class CommandCounterConfig {
+
+        @Bean
+        MongoCommandCounter mongoCommandCounter() {
+            return new MongoCommandCounter();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer commandCounterCustomizer(MongoCommandCounter counter) {
+            return builder -> builder.addCommandListener(counter);
+        }
+    }
+}